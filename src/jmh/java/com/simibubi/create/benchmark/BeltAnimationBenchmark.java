@@ -0,0 +1,113 @@
+package com.simibubi.create.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntityRenderer.BeltModelAnimator;
+
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+
+/**
+ * Cost of preparing the vertex data of belt segments for one rendered frame,
+ * either scrolling and tinting every vertex of every segment or copying a
+ * pre-animated frame and only moving it into place. Uses a synthetic model of
+ * about the size of a belt segment, so no textures or game assets are needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeltAnimationBenchmark {
+
+	static final int QUADS = 24;
+	static final int FRAMES = 16;
+
+	static class SyntheticBeltAnimator extends BeltModelAnimator {
+
+		ByteBuffer[] frames;
+
+		public SyntheticBeltAnimator(ByteBuffer template, int color) {
+			super(template);
+			frames = new ByteBuffer[FRAMES];
+			for (int frame = 0; frame < FRAMES; frame++)
+				frames[frame] = createFrame(color, frame);
+		}
+
+		@Override
+		protected float getTextureOffsetU(int frame) {
+			return (frame % 4) / 16f;
+		}
+
+		@Override
+		protected float getTextureOffsetV(int frame) {
+			return (frame / 4) / 16f;
+		}
+
+		ByteBuffer renderUncached(int color, int frame, float x, float y, float z, int light) {
+			animate(mutable, color, frame);
+			return translate(mutable, x, y, z, light);
+		}
+
+		ByteBuffer renderCached(int frame, float x, float y, float z, int light) {
+			return translate(frames[frame], x, y, z, light);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Belts {
+
+		@Param({ "100", "1000", "10000" })
+		public int segments;
+
+		@Param({ "-1", "11546150" })
+		public int color;
+
+		SyntheticBeltAnimator animator;
+
+		@Setup(Level.Trial)
+		public void createModel() {
+			int size = DefaultVertexFormats.BLOCK.getSize();
+			ByteBuffer model = ByteBuffer.allocateDirect(QUADS * 4 * size).order(ByteOrder.nativeOrder());
+			for (int vertex = 0; vertex < QUADS * 4; vertex++) {
+				int position = vertex * size;
+				model.putFloat(position, (vertex & 1));
+				model.putFloat(position + 4, (vertex >> 1 & 1) * 5 / 16f);
+				model.putFloat(position + 8, (vertex >> 2 & 1));
+				model.putInt(position + 12, 0xFFC0C0C0);
+				model.putFloat(position + 16, (vertex & 3) / 64f);
+				model.putFloat(position + 20, (vertex >> 2 & 3) / 64f);
+			}
+			animator = new SyntheticBeltAnimator(model, color);
+		}
+	}
+
+	@Benchmark
+	public void animateEverySegment(Belts belts, Blackhole blackhole) {
+		for (int segment = 0; segment < belts.segments; segment++)
+			blackhole.consume(
+					belts.animator.renderUncached(belts.color, segment % FRAMES, segment, 0, 0, 0xF000F0));
+	}
+
+	@Benchmark
+	public void copyCachedFrame(Belts belts, Blackhole blackhole) {
+		for (int segment = 0; segment < belts.segments; segment++)
+			blackhole.consume(belts.animator.renderCached(segment % FRAMES, segment, 0, 0, 0xF000F0));
+	}
+
+}
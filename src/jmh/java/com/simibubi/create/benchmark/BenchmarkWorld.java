@@ -0,0 +1,212 @@
+package com.simibubi.create.benchmark;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.IFluidState;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.profiler.EmptyProfiler;
+import net.minecraft.scoreboard.Scoreboard;
+import net.minecraft.tags.NetworkTagManager;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.EmptyTickList;
+import net.minecraft.world.GameType;
+import net.minecraft.world.ITickList;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.storage.MapData;
+import net.minecraft.world.storage.WorldInfo;
+
+/**
+ * Server side world kept entirely in memory. Block changes run the same block
+ * callbacks a real world would, so kinetic blocks attach and detach themselves
+ * just like in game. There is no chunk provider, so anything reaching for
+ * chunks directly is not supported.
+ */
+public class BenchmarkWorld extends World {
+
+	private Map<BlockPos, BlockState> blocks;
+	private Map<BlockPos, TileEntity> tileEntities;
+
+	public BenchmarkWorld() {
+		super(new WorldInfo(new WorldSettings(0, GameType.CREATIVE, false, false, WorldType.FLAT), "benchmark"),
+				DimensionType.OVERWORLD, (w, d) -> null, EmptyProfiler.INSTANCE, false);
+		blocks = new HashMap<>();
+		tileEntities = new HashMap<>();
+	}
+
+	@Override
+	public BlockState getBlockState(BlockPos pos) {
+		return blocks.getOrDefault(pos, Blocks.AIR.getDefaultState());
+	}
+
+	@Override
+	public IFluidState getFluidState(BlockPos pos) {
+		return getBlockState(pos).getFluidState();
+	}
+
+	@Override
+	public boolean setBlockState(BlockPos pos, BlockState newState, int flags) {
+		pos = pos.toImmutable();
+		BlockState oldState = getBlockState(pos);
+		if (oldState == newState)
+			return false;
+
+		if (newState.isAir())
+			blocks.remove(pos);
+		else
+			blocks.put(pos, newState);
+
+		oldState.onReplaced(this, pos, newState, false);
+		TileEntity tileEntity = tileEntities.get(pos);
+		if (tileEntity != null)
+			tileEntity.updateContainingBlockInfo();
+		else if (newState.hasTileEntity())
+			addTileEntity(pos, newState.createTileEntity(this));
+		newState.onBlockAdded(this, pos, oldState, false);
+
+		if ((flags & 16) == 0)
+			newState.updateNeighbors(this, pos, flags & -2);
+		return true;
+	}
+
+	private void addTileEntity(BlockPos pos, TileEntity tileEntity) {
+		if (tileEntity == null)
+			return;
+		tileEntity.setWorld(this);
+		tileEntity.setPos(pos);
+		tileEntity.validate();
+		tileEntities.put(pos, tileEntity);
+		tileEntity.onLoad();
+	}
+
+	@Override
+	public TileEntity getTileEntity(BlockPos pos) {
+		return tileEntities.get(pos);
+	}
+
+	@Override
+	public void removeTileEntity(BlockPos pos) {
+		TileEntity tileEntity = tileEntities.remove(pos);
+		if (tileEntity != null)
+			tileEntity.remove();
+	}
+
+	@Override
+	public boolean isBlockPresent(BlockPos pos) {
+		return true;
+	}
+
+	@Override
+	public boolean isAreaLoaded(BlockPos center, int range) {
+		return true;
+	}
+
+	@Override
+	public void markChunkDirty(BlockPos pos, TileEntity unusedTileEntity) {
+	}
+
+	@Override
+	public int getLight(BlockPos pos) {
+		return 15;
+	}
+
+	@Override
+	public int getLightSubtracted(BlockPos pos, int amount) {
+		return 15 - amount;
+	}
+
+	@Override
+	public int getMaxHeight() {
+		return 256;
+	}
+
+	@Override
+	public ITickList<Block> getPendingBlockTicks() {
+		return EmptyTickList.get();
+	}
+
+	@Override
+	public ITickList<Fluid> getPendingFluidTicks() {
+		return EmptyTickList.get();
+	}
+
+	@Override
+	public void playEvent(PlayerEntity player, int type, BlockPos pos, int data) {
+	}
+
+	@Override
+	public List<? extends PlayerEntity> getPlayers() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public void notifyBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState, int flags) {
+	}
+
+	@Override
+	public void playSound(PlayerEntity player, double x, double y, double z, SoundEvent soundIn, SoundCategory category,
+			float volume, float pitch) {
+	}
+
+	@Override
+	public void playMovingSound(PlayerEntity player, Entity entity, SoundEvent sound, SoundCategory category,
+			float volume, float pitch) {
+	}
+
+	@Override
+	public Entity getEntityByID(int id) {
+		return null;
+	}
+
+	@Override
+	public MapData getMapData(String mapName) {
+		return null;
+	}
+
+	@Override
+	public void registerMapData(MapData mapDataIn) {
+	}
+
+	@Override
+	public int getNextMapId() {
+		return 0;
+	}
+
+	@Override
+	public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {
+	}
+
+	@Override
+	public Scoreboard getScoreboard() {
+		return null;
+	}
+
+	@Override
+	public RecipeManager getRecipeManager() {
+		return null;
+	}
+
+	@Override
+	public NetworkTagManager getTags() {
+		return null;
+	}
+
+	public int getBlockCount() {
+		return blocks.size();
+	}
+
+}
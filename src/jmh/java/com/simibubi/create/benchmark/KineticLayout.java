@@ -0,0 +1,105 @@
+package com.simibubi.create.benchmark;
+
+import static net.minecraft.state.properties.BlockStateProperties.AXIS;
+import static net.minecraft.state.properties.BlockStateProperties.HORIZONTAL_FACING;
+
+import com.simibubi.create.AllBlocks;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltBlock;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltBlock.Part;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltBlock.Slope;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.Direction;
+import net.minecraft.util.Direction.Axis;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Kinetic structures of a given amount of blocks, each driven by a motor that
+ * can be placed and removed at {@link #getSourcePos()}.
+ */
+public enum KineticLayout {
+
+	/** Shafts in a single line along the x axis. */
+	SHAFT_LINE {
+		@Override
+		void build(BenchmarkWorld world, int size) {
+			BlockState shaft = AllBlocks.SHAFT.get().getDefaultState().with(AXIS, Axis.X);
+			for (int x = 0; x < size; x++)
+				world.setBlockState(new BlockPos(x, 0, 0), shaft, 3);
+		}
+	},
+
+	/** Cogwheels filling a vertical wall, each meshing with up to four others. */
+	COG_GRID {
+		@Override
+		void build(BenchmarkWorld world, int size) {
+			BlockState cog = AllBlocks.COGWHEEL.get().getDefaultState().with(AXIS, Axis.X);
+			int height = Math.min(size, MAX_HEIGHT);
+			for (int i = 0; i < size; i++)
+				world.setBlockState(new BlockPos(0, i % height, i / height), cog, 3);
+		}
+	},
+
+	/** Belts stacked side by side, connected through the pulleys at both ends. */
+	BELT_LOOP {
+		@Override
+		void build(BenchmarkWorld world, int size) {
+			BlockState belt = AllBlocks.BELT.get().getDefaultState().with(HORIZONTAL_FACING, Direction.EAST)
+					.with(BeltBlock.SLOPE, Slope.HORIZONTAL);
+			for (int i = 0; i < size; i++) {
+				int x = i % BELT_LENGTH;
+				int z = i / BELT_LENGTH;
+				Part part = x == 0 ? Part.START : x == BELT_LENGTH - 1 ? Part.END : Part.MIDDLE;
+				BlockPos pos = new BlockPos(x + 1, 0, z);
+				world.setBlockState(pos, belt.with(BeltBlock.PART, part), 3);
+				((BeltTileEntity) world.getTileEntity(pos)).setController(new BlockPos(1, 0, z));
+			}
+		}
+
+		@Override
+		BlockPos getSourcePos() {
+			return new BlockPos(1, 0, -1);
+		}
+
+		@Override
+		BlockState getSource() {
+			return AllBlocks.MOTOR.get().getDefaultState().with(HORIZONTAL_FACING, Direction.SOUTH);
+		}
+	},
+
+	/**
+	 * Large cogwheels on every other diagonal, alternating between the x and z
+	 * axis so each one meshes with its diagonal neighbours.
+	 */
+	LARGE_COG_LATTICE {
+		@Override
+		void build(BenchmarkWorld world, int size) {
+			BlockState cog = AllBlocks.LARGE_COGWHEEL.get().getDefaultState();
+			int width = (int) Math.ceil(Math.sqrt(size * 2));
+			int placed = 0;
+			for (int z = 0; placed < size; z++) {
+				for (int x = z % 2; x < width && placed < size; x += 2) {
+					world.setBlockState(new BlockPos(x, 0, z), cog.with(AXIS, x % 2 == 0 ? Axis.X : Axis.Z), 3);
+					placed++;
+				}
+			}
+		}
+	},
+
+	;
+
+	static final int MAX_HEIGHT = 128;
+	static final int BELT_LENGTH = 20;
+
+	abstract void build(BenchmarkWorld world, int size);
+
+	BlockPos getSourcePos() {
+		return new BlockPos(-1, 0, 0);
+	}
+
+	BlockState getSource() {
+		return AllBlocks.MOTOR.get().getDefaultState().with(HORIZONTAL_FACING, Direction.EAST);
+	}
+
+}
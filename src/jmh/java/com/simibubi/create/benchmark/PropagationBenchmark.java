@@ -0,0 +1,115 @@
+package com.simibubi.create.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.simibubi.create.Create;
+import com.simibubi.create.modules.contraptions.KineticNetworkHandler;
+
+import net.minecraft.block.Blocks;
+import net.minecraft.util.registry.Bootstrap;
+
+/**
+ * Cost of starting and stopping a whole kinetic structure by placing or
+ * removing its only source, including every tick needed until the network
+ * settled. Run with <code>gradlew jmh</code>, allocations per operation are
+ * reported as gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropagationBenchmark {
+
+	/** Time after which a network is considered stuck rather than slow. */
+	static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	public static abstract class KineticStructure {
+
+		@Param({ "SHAFT_LINE", "COG_GRID", "BELT_LOOP", "LARGE_COG_LATTICE" })
+		public KineticLayout layout;
+
+		@Param({ "100", "1000", "10000", "100000" })
+		public int size;
+
+		BenchmarkWorld world;
+
+		@Setup(Level.Trial)
+		public void buildStructure() {
+			Bootstrap.register();
+			Create.kineticNetworkHandler = new KineticNetworkHandler();
+			world = new BenchmarkWorld();
+			Create.kineticNetworkHandler.onLoadWorld(world);
+			layout.build(world, size);
+			settle();
+		}
+
+		@TearDown(Level.Trial)
+		public void unload() {
+			Create.kineticNetworkHandler.onUnloadWorld(world);
+		}
+
+		void placeSource() {
+			world.setBlockState(layout.getSourcePos(), layout.getSource(), 3);
+		}
+
+		void removeSource() {
+			world.setBlockState(layout.getSourcePos(), Blocks.AIR.getDefaultState(), 3);
+		}
+
+		void settle() {
+			KineticNetworkHandler handler = Create.kineticNetworkHandler;
+			long deadline = System.nanoTime() + TIMEOUT_NANOS;
+			while (handler.hasPendingWork(world)) {
+				if (System.nanoTime() > deadline)
+					throw new IllegalStateException("Kinetic network did not settle");
+				handler.tick();
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class StoppedStructure extends KineticStructure {
+		@Setup(Level.Invocation)
+		public void stop() {
+			removeSource();
+			settle();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class RunningStructure extends KineticStructure {
+		@Setup(Level.Invocation)
+		public void start() {
+			placeSource();
+			settle();
+		}
+	}
+
+	@Benchmark
+	public void placeSource(StoppedStructure structure) {
+		structure.placeSource();
+		structure.settle();
+	}
+
+	@Benchmark
+	public void removeSource(RunningStructure structure) {
+		structure.removeSource();
+		structure.settle();
+	}
+
+}
@@ -6,8 +6,10 @@ import java.util.function.Supplier;
 
 import com.simibubi.create.foundation.packet.NbtPacket;
 import com.simibubi.create.foundation.packet.SimplePacketBase;
+import com.simibubi.create.modules.contraptions.KineticUpdatePacket;
 import com.simibubi.create.modules.contraptions.generators.ConfigureMotorPacket;
 import com.simibubi.create.modules.contraptions.receivers.constructs.ConfigureChassisPacket;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltInventoryPacket;
 import com.simibubi.create.modules.curiosities.placementHandgun.BuilderGunBeamPacket;
 import com.simibubi.create.modules.curiosities.symmetry.SymmetryEffectPacket;
 import com.simibubi.create.modules.logistics.block.diodes.ConfigureFlexpeaterPacket;
@@ -39,6 +41,8 @@ public enum AllPackets {
 	// Server to Client
 	SYMMETRY_EFFECT(SymmetryEffectPacket.class, SymmetryEffectPacket::new),
 	BEAM_EFFECT(BuilderGunBeamPacket.class, BuilderGunBeamPacket::new),
+	KINETIC_UPDATE(KineticUpdatePacket.class, KineticUpdatePacket::new),
+	BELT_INVENTORY(BeltInventoryPacket.class, BeltInventoryPacket::new),
 
 	;
 
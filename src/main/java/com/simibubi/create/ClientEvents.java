@@ -9,6 +9,7 @@ import com.simibubi.create.foundation.gui.ScreenOpener;
 import com.simibubi.create.foundation.utility.TooltipHelper;
 import com.simibubi.create.modules.contraptions.receivers.TurntableHandler;
 import com.simibubi.create.modules.contraptions.relays.belt.BeltItemHandler;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntityRenderer;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.item.ItemStack;
@@ -57,6 +58,7 @@ public class ClientEvents {
 		CreateClient.schematicHandler.render();
 		CreateClient.schematicAndQuillHandler.render();
 		CreateClient.schematicHologram.render();
+		BeltTileEntityRenderer.renderItems(event.getPartialTicks());
 	}
 
 	@SubscribeEvent
@@ -4,6 +4,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.simibubi.create.modules.ModuleLoadedCondition;
+import com.simibubi.create.modules.contraptions.KineticNetworkHandler;
 import com.simibubi.create.modules.contraptions.receivers.constructs.MovingConstructHandler;
 import com.simibubi.create.modules.logistics.FrequencyHandler;
 import com.simibubi.create.modules.schematics.ServerSchematicLoader;
@@ -35,6 +36,7 @@ public class Create {
 	public static ServerSchematicLoader schematicReceiver;
 	public static FrequencyHandler frequencyHandler;
 	public static MovingConstructHandler constructHandler;
+	public static KineticNetworkHandler kineticNetworkHandler;
 
 	public static ModConfig config;
 
@@ -57,6 +59,7 @@ public class Create {
 		schematicReceiver = new ServerSchematicLoader();
 		frequencyHandler = new FrequencyHandler();
 		constructHandler = new MovingConstructHandler();
+		kineticNetworkHandler = new KineticNetworkHandler();
 		CraftingHelper.register(new ModuleLoadedCondition.Serializer());
 		AllPackets.registerPackets();
 	}
@@ -93,6 +96,8 @@ public class Create {
 		if (schematicReceiver == null)
 			schematicReceiver = new ServerSchematicLoader();
 		schematicReceiver.tick();
+		if (kineticNetworkHandler != null)
+			kineticNetworkHandler.tick();
 	}
 
 	public static void shutdown() {
@@ -4,6 +4,7 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.common.ForgeConfigSpec.BooleanValue;
+import net.minecraftforge.common.ForgeConfigSpec.IntValue;
 
 public class CreateClientConfig {
 
@@ -19,6 +20,8 @@ public class CreateClientConfig {
 	}
 
 	public BooleanValue enableTooltips;
+	public IntValue rotationCacheBuckets, rotationCacheMemory;
+	public IntValue lodDistance, lodFreezeDistance, lodUpdateInterval;
 	
 	CreateClientConfig(final ForgeConfigSpec.Builder builder) {
 		builder.comment("Client-only settings - If you're looking for server/common settings, look inside your worlds serverconfig folder!").push("client");
@@ -27,6 +30,31 @@ public class CreateClientConfig {
 		String name = "enableTooltips";
 		enableTooltips = builder.comment("", "Show item descriptions on Shift and controls on Ctrl.")
 				.translation(basePath + name).define(name, true);
+
+		name = "rotationCacheBuckets";
+		rotationCacheBuckets = builder.comment("",
+				"Amount of angles a rotating model is pre-rendered at. Higher values look smoother but use more memory. [0 to disable]")
+				.translation(basePath + name).defineInRange(name, 128, 0, 1024);
+
+		name = "rotationCacheMemory";
+		rotationCacheMemory = builder.comment("",
+				"Maximum memory in MB used for pre-rendered rotating models and belt animation frames. Models beyond this limit are transformed every frame.")
+				.translation(basePath + name).defineInRange(name, 32, 0, 1024);
+
+		name = "lodDistance";
+		lodDistance = builder.comment("",
+				"Distance in blocks beyond which kinetic blocks animate at a reduced rate and sample light less often. [0 to disable]")
+				.translation(basePath + name).defineInRange(name, 32, 0, 512);
+
+		name = "lodFreezeDistance";
+		lodFreezeDistance = builder.comment("",
+				"Distance in blocks beyond which kinetic blocks stop animating entirely. [0 to disable]")
+				.translation(basePath + name).defineInRange(name, 96, 0, 512);
+
+		name = "lodUpdateInterval";
+		lodUpdateInterval = builder.comment("",
+				"Ticks between animation and light updates of kinetic blocks beyond the reduced detail distance.")
+				.translation(basePath + name).defineInRange(name, 4, 1, 100);
 		
 		builder.pop();
 	}
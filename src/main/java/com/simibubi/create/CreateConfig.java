@@ -51,7 +51,8 @@ public class CreateConfig {
 	public BooleanValue allowGlassPanesInPartialBlocks;
 
 	// Contraptions
-	public IntValue maxBeltLength, crushingDamage, maxMotorSpeed, maxRotationSpeed;
+	public IntValue maxBeltLength, crushingDamage, maxMotorSpeed, maxRotationSpeed, maxPropagationsPerTick,
+			asyncSolverThreshold;
 	public IntValue fanMaxPushDistance, fanMaxPullDistance, fanBlockCheckRate, fanRotationArgmax, generatingFanSpeed,
 			inWorldProcessingTime;
 	public IntValue maxChassisForTranslation, maxChassisForRotation, maxChassisRange, maxPistonPoles;
@@ -242,6 +243,16 @@ public class CreateConfig {
 		maxRotationSpeed = builder.comment("", "Maximum allowed rotation speed for any Kinetic Tile.")
 				.translation(basePath + name).defineInRange(name, 16384, 64, Integer.MAX_VALUE);
 
+		name = "maxPropagationsPerTick";
+		maxPropagationsPerTick = builder.comment("",
+				"Maximum amount of Kinetic Tiles updated per tick and world. Larger networks finish updating over the following ticks.")
+				.translation(basePath + name).defineInRange(name, 8192, 64, Integer.MAX_VALUE);
+
+		name = "asyncSolverThreshold";
+		asyncSolverThreshold = builder.comment("",
+				"Kinetic Networks with at least this many Tiles have their speeds solved on a background thread and updated a few ticks later. [0 to disable]")
+				.translation(basePath + name).defineInRange(name, 16384, 0, Integer.MAX_VALUE);
+
 		builder.pop();
 	}
 
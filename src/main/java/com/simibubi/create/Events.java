@@ -2,6 +2,7 @@ package com.simibubi.create;
 
 import java.util.Arrays;
 
+import com.simibubi.create.modules.contraptions.relays.belt.BeltMetricsCommand;
 import com.simibubi.create.modules.curiosities.partialWindows.WindowInABlockTileEntity;
 
 import net.minecraft.block.BlockState;
@@ -22,6 +23,7 @@ import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.Event.Result;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.event.server.FMLServerStartingEvent;
 import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
 
 @EventBusSubscriber
@@ -35,6 +37,11 @@ public class Events {
 		Create.tick();
 	}
 
+	@SubscribeEvent
+	public static void onServerStarting(FMLServerStartingEvent event) {
+		BeltMetricsCommand.register(event.getCommandDispatcher());
+	}
+
 	@SubscribeEvent
 	public static void onClose(FMLServerStoppingEvent event) {
 		Create.shutdown();
@@ -45,6 +52,7 @@ public class Events {
 		IWorld world = event.getWorld();
 		Create.frequencyHandler.onLoadWorld(world);
 		Create.constructHandler.onLoadWorld(world);
+		Create.kineticNetworkHandler.onLoadWorld(world);
 	}
 
 	@SubscribeEvent
@@ -52,6 +60,7 @@ public class Events {
 		IWorld world = event.getWorld();
 		Create.frequencyHandler.onUnloadWorld(world);
 		Create.constructHandler.onUnloadWorld(world);
+		Create.kineticNetworkHandler.onUnloadWorld(world);
 	}
 
 	@SubscribeEvent
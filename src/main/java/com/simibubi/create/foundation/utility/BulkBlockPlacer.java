@@ -0,0 +1,99 @@
+package com.simibubi.create.foundation.utility;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.lighting.WorldLightManager;
+
+/**
+ * Places many blocks at once. Blocks are written straight into their chunks,
+ * while light checks, shape, neighbour and point of interest updates are held
+ * back until {@link #flush()} and then run in one pass over every changed
+ * position, once all blocks are in place. Changes reach clients through the
+ * chunk's own batching, as one multi block change per chunk.
+ */
+public class BulkBlockPlacer {
+
+	protected World world;
+	protected boolean isMoving;
+	protected Map<BlockPos, BlockState> replaced;
+
+	public BulkBlockPlacer(World world, boolean isMoving) {
+		this.world = world;
+		this.isMoving = isMoving;
+		replaced = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Plays the break effect of the block at this position and drops it if asked
+	 * to. The block itself stays until something is placed over it.
+	 */
+	public void destroyBlock(BlockPos pos, boolean dropBlock) {
+		BlockState state = world.getBlockState(pos);
+		if (state.isAir(world, pos))
+			return;
+		world.playEvent(2001, pos, Block.getStateId(state));
+		if (dropBlock)
+			Block.spawnDrops(state, world, pos, state.hasTileEntity() ? world.getTileEntity(pos) : null);
+	}
+
+	public void setBlockState(BlockPos pos, BlockState state) {
+		if (World.isOutsideBuildHeight(pos))
+			return;
+		pos = pos.toImmutable();
+		BlockState previous = world.getChunkAt(pos).setBlockState(pos, state, isMoving);
+		if (previous != null)
+			replaced.putIfAbsent(pos, previous);
+	}
+
+	public void flush() {
+		// Blocks adapt to their final neighbours, not to a half placed region
+		for (BlockPos pos : replaced.keySet()) {
+			BlockState state = world.getBlockState(pos);
+			if (state.isAir(world, pos))
+				continue;
+			BlockState updated = state;
+			for (Direction face : Direction.values())
+				updated = updated.updatePostPlacement(face, world.getBlockState(pos.offset(face)), world, pos,
+						pos.offset(face));
+			if (updated != state)
+				world.getChunkAt(pos).setBlockState(pos, updated, isMoving);
+		}
+
+		WorldLightManager lightManager = world.getChunkProvider().getLightManager();
+		for (Entry<BlockPos, BlockState> entry : replaced.entrySet()) {
+			BlockPos pos = entry.getKey();
+			BlockState previous = entry.getValue();
+			BlockState state = world.getBlockState(pos);
+			if (state == previous)
+				continue;
+
+			// Same conditions as a regular block change, including states whose shape
+			// occludes light
+			if (state.getOpacity(world, pos) != previous.getOpacity(world, pos)
+					|| state.getLightValue(world, pos) != previous.getLightValue(world, pos)
+					|| state.func_215691_g() || previous.func_215691_g())
+				lightManager.checkBlock(pos);
+
+			world.notifyBlockUpdate(pos, previous, state, 3);
+			if (!world.isRemote) {
+				world.notifyNeighbors(pos, previous.getBlock());
+				if (state.hasComparatorInputOverride())
+					world.updateComparatorOutputLevel(pos, state.getBlock());
+			}
+			previous.updateDiagonalNeighbors(world, pos, 2);
+			state.updateNeighbors(world, pos, 2);
+			state.updateDiagonalNeighbors(world, pos, 2);
+			world.onBlockStateChange(pos, previous, state);
+		}
+
+		replaced.clear();
+	}
+
+}
@@ -0,0 +1,216 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.simibubi.create.AllPackets;
+import com.simibubi.create.Create;
+import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+/**
+ * Collects the kinetic topology changes of one world during a server tick.
+ * Repeated changes to the same tile collapse into one, and every tile touched
+ * by the resulting propagation is synced once at the end of the tick.
+ */
+public class KineticChangeQueue {
+
+	enum ChangeType {
+		ADDED, REMOVED, SPEED_CHANGED, REVERSED;
+	}
+
+	static class KineticChange {
+		ChangeType type;
+		float previousSpeed;
+
+		public KineticChange(ChangeType type, float previousSpeed) {
+			this.type = type;
+			this.previousSpeed = previousSpeed;
+		}
+	}
+
+	private Map<KineticTileEntity, KineticChange> changes;
+	private Set<KineticTileEntity> changedTiles;
+
+	public KineticChangeQueue() {
+		changes = new LinkedHashMap<>();
+		changedTiles = new LinkedHashSet<>();
+	}
+
+	public void added(KineticTileEntity te) {
+		KineticChange change = changes.get(te);
+		if (change == null) {
+			changes.put(te, new KineticChange(ChangeType.ADDED, 0));
+			return;
+		}
+
+		// A detach followed by an attach only changed the speed
+		if (change.type == ChangeType.REMOVED || change.type == ChangeType.REVERSED)
+			change.type = ChangeType.SPEED_CHANGED;
+	}
+
+	public void removed(KineticTileEntity te) {
+		KineticChange change = changes.get(te);
+		if (change == null) {
+			changes.put(te, new KineticChange(ChangeType.REMOVED, te.getSpeed()));
+			return;
+		}
+
+		if (change.type == ChangeType.ADDED) {
+			// Never propagated, nothing to clean up
+			if (te.isRemoved()) {
+				changes.remove(te);
+				return;
+			}
+			change.type = ChangeType.SPEED_CHANGED;
+			change.previousSpeed = te.getSpeed();
+			return;
+		}
+
+		if (te.isRemoved())
+			change.type = ChangeType.REMOVED;
+		else if (change.type == ChangeType.REVERSED)
+			change.type = ChangeType.SPEED_CHANGED;
+	}
+
+	public void reversed(KineticTileEntity te) {
+		KineticChange change = changes.get(te);
+		if (change == null) {
+			changes.put(te, new KineticChange(ChangeType.REVERSED, te.getSpeed()));
+			return;
+		}
+
+		// Toggled back and forth within the same tick
+		if (change.type == ChangeType.REVERSED)
+			changes.remove(te);
+	}
+
+	public void markChanged(KineticTileEntity te) {
+		changedTiles.add(te);
+	}
+
+	public boolean isEmpty() {
+		return changes.isEmpty() && changedTiles.isEmpty();
+	}
+
+	/**
+	 * Resolves all changes collected so far. Changes caused by the resolution
+	 * itself, such as overstressed blocks breaking, are handled next tick. While
+	 * subnetworks are still being cleared, only removals are resolved, anything
+	 * that could spread a source into them waits until the clearing is done.
+	 */
+	public void flush(World world) {
+		if (changes.isEmpty())
+			return;
+
+		PropagationQueue queue = Create.kineticNetworkHandler.getQueue(world);
+		Map<KineticTileEntity, KineticChange> current = changes;
+		Map<KineticTileEntity, KineticChange> held = new LinkedHashMap<>();
+		changes = new LinkedHashMap<>();
+
+		current.forEach((te, change) -> {
+			if (change.type != ChangeType.REMOVED && !queue.missingSource.isEmpty()) {
+				held.put(te, change);
+				return;
+			}
+
+			switch (change.type) {
+			case ADDED:
+				if (te.isRemoved() || RotationPropagator.offload(world, te))
+					break;
+				RotationPropagator.attach(world, te.getPos(), te);
+				break;
+			case REMOVED:
+				if (change.previousSpeed != 0 && RotationPropagator.offload(world, te))
+					break;
+				RotationPropagator.detach(world, te.getPos(), te, change.previousSpeed);
+				if (te.isRemoved())
+					Create.kineticNetworkHandler.leave(te);
+				break;
+			case SPEED_CHANGED:
+				markChanged(te);
+				if (RotationPropagator.rescale(world, te, change.previousSpeed))
+					break;
+				if (RotationPropagator.offload(world, te))
+					break;
+				RotationPropagator.detach(world, te.getPos(), te, change.previousSpeed);
+				RotationPropagator.attach(world, te.getPos(), te);
+				break;
+			case REVERSED:
+				if (te.isRemoved() || RotationPropagator.reverse(world, te))
+					break;
+				if (RotationPropagator.offload(world, te))
+					break;
+				RotationPropagator.detach(world, te.getPos(), te, te.getSpeed());
+				RotationPropagator.attach(world, te.getPos(), te);
+				break;
+			}
+		});
+
+		if (held.isEmpty())
+			return;
+
+		// Changes caused while flushing happened after the held ones
+		Map<KineticTileEntity, KineticChange> caused = changes;
+		changes = held;
+		caused.forEach((te, change) -> {
+			if (!changes.containsKey(te)) {
+				changes.put(te, change);
+				return;
+			}
+			switch (change.type) {
+			case ADDED:
+				added(te);
+				break;
+			case REMOVED:
+				removed(te);
+				break;
+			case SPEED_CHANGED:
+				removed(te);
+				added(te);
+				break;
+			case REVERSED:
+				reversed(te);
+				break;
+			}
+		});
+	}
+
+	public void sync() {
+		if (changedTiles.isEmpty())
+			return;
+
+		Set<KineticTileEntity> current = changedTiles;
+		changedTiles = new LinkedHashSet<>();
+		Map<Long, List<KineticTileEntity>> changedChunks = new HashMap<>();
+
+		for (KineticTileEntity te : current) {
+			if (te.isRemoved())
+				continue;
+			te.onSpeedChanged();
+			long chunk = ChunkPos.asLong(te.getPos().getX() >> 4, te.getPos().getZ() >> 4);
+			changedChunks.computeIfAbsent(chunk, c -> new ArrayList<>()).add(te);
+		}
+
+		// One packet per chunk for everyone watching it
+		changedChunks.forEach((chunk, tiles) -> {
+			World world = tiles.get(0).getWorld();
+			if (!(world instanceof ServerWorld))
+				return;
+			ChunkPos chunkPos = new ChunkPos(chunk);
+			AllPackets.channel.send(
+					PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunk(chunkPos.x, chunkPos.z)),
+					new KineticUpdatePacket(chunkPos, tiles));
+		});
+	}
+
+}
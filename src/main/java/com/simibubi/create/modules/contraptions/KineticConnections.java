@@ -0,0 +1,64 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.Arrays;
+
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * The neighbours a kinetic tile is connected to, as derived from the block
+ * states around it. Held by the tile until a block next to it is added, removed
+ * or changed.
+ */
+public class KineticConnections {
+
+	public static final KineticConnections NONE = new KineticConnections(0);
+
+	public BlockPos[] positions;
+	public float[] ratios;
+
+	/**
+	 * Face of a connection by axis. The ratio of those depends on where the tile
+	 * is driven from, for instance inside a gearbox, and is not cached.
+	 */
+	public Direction[] shaftFaces;
+
+	private int size;
+
+	public KineticConnections(int capacity) {
+		positions = new BlockPos[capacity];
+		ratios = new float[capacity];
+		shaftFaces = new Direction[capacity];
+		size = 0;
+	}
+
+	public void add(BlockPos pos, float ratio, Direction shaftFace) {
+		positions[size] = pos;
+		ratios[size] = ratio;
+		shaftFaces[size] = shaftFace;
+		size++;
+	}
+
+	public KineticConnections trim() {
+		if (size == positions.length)
+			return this;
+		if (size == 0)
+			return NONE;
+		positions = Arrays.copyOf(positions, size);
+		ratios = Arrays.copyOf(ratios, size);
+		shaftFaces = Arrays.copyOf(shaftFaces, size);
+		return this;
+	}
+
+	public int indexOf(BlockPos pos) {
+		for (int i = 0; i < size; i++)
+			if (positions[i].equals(pos))
+				return i;
+		return -1;
+	}
+
+	public int size() {
+		return size;
+	}
+
+}
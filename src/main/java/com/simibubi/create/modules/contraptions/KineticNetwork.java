@@ -0,0 +1,85 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * A connected component of rotating kinetic tiles. Every member stores its
+ * speed as a ratio of the network's reference speed, so the network can be
+ * merged, re-speeded or dissolved without walking the blocks in between.
+ */
+public class KineticNetwork {
+
+	public Long id;
+	public float speed;
+	public Set<BlockPos> sources;
+	public Map<BlockPos, Float> members;
+
+	public KineticNetwork(Long id) {
+		this.id = id;
+		speed = 0;
+		sources = new HashSet<>();
+		members = new HashMap<>();
+	}
+
+	public void add(KineticTileEntity te) {
+		if (speed == 0)
+			speed = te.getSpeed();
+		BlockPos pos = te.getPos();
+		members.put(pos, speed == 0 ? 1 : te.getSpeed() / speed);
+		if (te.isSource())
+			sources.add(pos);
+		else
+			sources.remove(pos);
+	}
+
+	public void remove(KineticTileEntity te) {
+		remove(te.getPos());
+	}
+
+	public void remove(BlockPos pos) {
+		members.remove(pos);
+		sources.remove(pos);
+	}
+
+	/**
+	 * Takes over all members and sources of the other network, converting their
+	 * ratios to this network's reference speed.
+	 */
+	public void absorb(KineticNetwork other) {
+		float scale = speed == 0 ? 1 : other.speed / speed;
+		other.members.forEach((pos, ratio) -> members.put(pos, ratio * scale));
+		sources.addAll(other.sources);
+	}
+
+	public boolean contains(BlockPos pos) {
+		return members.containsKey(pos);
+	}
+
+	public float getRatio(BlockPos pos) {
+		return members.getOrDefault(pos, 0f);
+	}
+
+	public float getSpeedOf(BlockPos pos) {
+		return getRatio(pos) * speed;
+	}
+
+	public boolean isSoleSource(BlockPos pos) {
+		return sources.size() == 1 && sources.contains(pos);
+	}
+
+	public boolean isEmpty() {
+		return members.isEmpty();
+	}
+
+	public int size() {
+		return members.size();
+	}
+
+}
@@ -0,0 +1,254 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import com.simibubi.create.Create;
+import com.simibubi.create.CreateConfig;
+import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+
+public class KineticNetworkHandler {
+
+	static Map<IWorld, Map<Long, KineticNetwork>> networks = new HashMap<>();
+	static Map<IWorld, PropagationQueue> queues = new HashMap<>();
+	static Map<IWorld, KineticChangeQueue> changes = new HashMap<>();
+	static Map<IWorld, List<KineticSolver>> solvers = new HashMap<>();
+
+	/** Outdated snapshots are captured again at most this often before solving in place. */
+	static final int MAX_SOLVER_ATTEMPTS = 3;
+
+	public void onLoadWorld(IWorld world) {
+		if (world.isRemote())
+			return;
+		networks.put(world, new HashMap<>());
+		queues.put(world, new PropagationQueue());
+		changes.put(world, new KineticChangeQueue());
+		solvers.put(world, new ArrayList<>());
+		Create.logger.debug("Prepared Kinetic Network Space for " + world.getDimension().getType().getRegistryName());
+	}
+
+	public void onUnloadWorld(IWorld world) {
+		if (world.isRemote())
+			return;
+		networks.remove(world);
+		queues.remove(world);
+		changes.remove(world);
+		solvers.remove(world);
+		Create.logger.debug("Removed Kinetic Network Space for " + world.getDimension().getType().getRegistryName());
+	}
+
+	public Map<Long, KineticNetwork> networksIn(IWorld world) {
+		if (!networks.containsKey(world)) {
+			Create.logger.warn("Tried to Access unprepared kinetic network space of "
+					+ world.getDimension().getType().getRegistryName());
+			return new HashMap<>();
+		}
+		return networks.get(world);
+	}
+
+	public PropagationQueue getQueue(IWorld world) {
+		if (!queues.containsKey(world)) {
+			Create.logger.warn("Tried to Access unprepared propagation queue of "
+					+ world.getDimension().getType().getRegistryName());
+			return new PropagationQueue();
+		}
+		return queues.get(world);
+	}
+
+	public KineticChangeQueue getChanges(IWorld world) {
+		if (!changes.containsKey(world)) {
+			Create.logger.warn("Tried to Access unprepared kinetic change queue of "
+					+ world.getDimension().getType().getRegistryName());
+			return new KineticChangeQueue();
+		}
+		return changes.get(world);
+	}
+
+	public void solve(IWorld world, KineticSnapshot snapshot) {
+		if (!solvers.containsKey(world)) {
+			// Nothing would pick up the solution later, so solve it right away
+			float maxSpeed = CreateConfig.parameters.maxRotationSpeed.get();
+			RotationPropagator.applySolution(world.getWorld(), snapshot, KineticSolver.solve(snapshot, maxSpeed));
+			return;
+		}
+		solvers.get(world).add(KineticSolver.submit(snapshot));
+	}
+
+	public boolean hasPendingWork(IWorld world) {
+		if (queues.containsKey(world) && !queues.get(world).isEmpty())
+			return true;
+		if (changes.containsKey(world) && !changes.get(world).isEmpty())
+			return true;
+		return solvers.containsKey(world) && !solvers.get(world).isEmpty();
+	}
+
+	public void tick() {
+		// Worlds can load or unload while their queues are worked on
+		new HashMap<>(solvers).forEach((world, solversInWorld) -> applySolutions(world.getWorld(), solversInWorld));
+		new HashMap<>(queues).forEach((world, queue) -> {
+			queue.resetBudget();
+			if (!queue.isEmpty())
+				RotationPropagator.resume(world.getWorld(), queue);
+		});
+		new HashMap<>(changes).forEach((world, changeQueue) -> {
+			changeQueue.flush(world.getWorld());
+			changeQueue.sync();
+		});
+	}
+
+	/**
+	 * Applies finished solutions in the order they were requested. A solution
+	 * whose region changed while it was being solved is requested again from a
+	 * fresh snapshot, or solved right away if that keeps happening.
+	 */
+	private void applySolutions(World world, List<KineticSolver> solversInWorld) {
+		List<KineticSolver> resubmitted = new ArrayList<>();
+		for (Iterator<KineticSolver> iterator = solversInWorld.iterator(); iterator.hasNext();) {
+			KineticSolver solver = iterator.next();
+			if (!solver.isDone())
+				break;
+			iterator.remove();
+
+			KineticSolver.Solution solution = null;
+			try {
+				solution = solver.result.get();
+			} catch (InterruptedException | ExecutionException e) {
+				Create.logger.error("Failed to solve kinetic network", e);
+			}
+
+			KineticSnapshot snapshot = solver.snapshot;
+			if (solution != null && snapshot.isUpToDate(world)) {
+				RotationPropagator.applySolution(world, snapshot, solution);
+				continue;
+			}
+
+			snapshot = snapshot.recapture(world);
+			if (solution != null && solver.attempts < MAX_SOLVER_ATTEMPTS) {
+				resubmitted.add(solver.resubmit(snapshot));
+				continue;
+			}
+
+			float maxSpeed = CreateConfig.parameters.maxRotationSpeed.get();
+			RotationPropagator.applySolution(world, snapshot, KineticSolver.solve(snapshot, maxSpeed));
+		}
+		solversInWorld.addAll(resubmitted);
+	}
+
+	public KineticNetwork getNetworkOf(KineticTileEntity te) {
+		if (!te.hasNetwork())
+			return null;
+		Map<Long, KineticNetwork> networksInWorld = networksIn(te.getWorld());
+		Long id = te.getNetworkID();
+		if (!networksInWorld.containsKey(id))
+			networksInWorld.put(id, new KineticNetwork(id));
+		return networksInWorld.get(id);
+	}
+
+	public KineticNetwork createNetworkFor(KineticTileEntity te) {
+		leave(te);
+		Map<Long, KineticNetwork> networksInWorld = networksIn(te.getWorld());
+		Long id = te.getWorld().rand.nextLong();
+		while (networksInWorld.containsKey(id))
+			id = te.getWorld().rand.nextLong();
+
+		KineticNetwork network = new KineticNetwork(id);
+		networksInWorld.put(id, network);
+		te.setNetworkID(id);
+		network.add(te);
+		return network;
+	}
+
+	public void join(KineticTileEntity te, KineticNetwork network) {
+		KineticNetwork current = getNetworkOf(te);
+		if (current != null && current != network)
+			leave(te);
+		te.setNetworkID(network.id);
+		network.add(te);
+	}
+
+	public void leave(KineticTileEntity te) {
+		KineticNetwork network = getNetworkOf(te);
+		te.setNetworkID(null);
+		if (network == null)
+			return;
+		network.remove(te);
+		if (network.isEmpty())
+			networksIn(te.getWorld()).remove(network.id);
+	}
+
+	public void onLoaded(KineticTileEntity te) {
+		if (te.getSpeed() == 0) {
+			if (te.hasNetwork())
+				leave(te);
+			return;
+		}
+
+		// Tiles saved before networks existed start out on their own
+		KineticNetwork network = getNetworkOf(te);
+		if (network == null) {
+			createNetworkFor(te);
+			return;
+		}
+		network.add(te);
+	}
+
+	public void onUnloaded(KineticTileEntity te) {
+		KineticNetwork network = getNetworkOf(te);
+		if (network == null)
+			return;
+		network.remove(te);
+		if (network.isEmpty())
+			networksIn(te.getWorld()).remove(network.id);
+	}
+
+	/**
+	 * Joins two networks by moving the smaller one into the larger one. Only the
+	 * tiles of the smaller network are touched.
+	 */
+	public KineticNetwork merge(World world, KineticNetwork first, KineticNetwork second) {
+		if (first == second)
+			return first;
+
+		KineticNetwork larger = first.size() >= second.size() ? first : second;
+		KineticNetwork smaller = larger == first ? second : first;
+
+		for (BlockPos pos : smaller.members.keySet()) {
+			TileEntity tileEntity = world.getTileEntity(pos);
+			if (tileEntity instanceof KineticTileEntity)
+				((KineticTileEntity) tileEntity).setNetworkID(larger.id);
+		}
+
+		larger.absorb(smaller);
+		networksIn(world).remove(smaller.id);
+		return larger;
+	}
+
+	/**
+	 * Stops every member of the network at once. Used when its only source goes
+	 * away, as nothing else could keep any part of it spinning.
+	 */
+	public void dissolve(World world, KineticNetwork network) {
+		networksIn(world).remove(network.id);
+		for (BlockPos pos : network.members.keySet()) {
+			TileEntity tileEntity = world.getTileEntity(pos);
+			if (!(tileEntity instanceof KineticTileEntity))
+				continue;
+			KineticTileEntity kineticTileEntity = (KineticTileEntity) tileEntity;
+			kineticTileEntity.setNetworkID(null);
+			if (kineticTileEntity.isSource())
+				continue;
+			kineticTileEntity.removeSource();
+			getChanges(world).markChanged(kineticTileEntity);
+		}
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+import com.simibubi.create.modules.contraptions.relays.ClutchTileEntity;
+import com.simibubi.create.modules.contraptions.relays.GearboxTileEntity;
+import com.simibubi.create.modules.contraptions.relays.GearshiftTileEntity;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.state.properties.BlockStateProperties;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Immutable copy of all kinetic tiles connected to a set of roots, captured on
+ * the server thread so their speeds can be solved on another one. Before the
+ * result is applied, the snapshot is compared against the world to find out
+ * whether anything in the region changed in the meantime.
+ */
+public class KineticSnapshot {
+
+	enum Relay {
+		NONE, GEARBOX, SPLIT_SHAFT;
+	}
+
+	static class Node {
+		final BlockPos pos;
+		final BlockState state;
+		final KineticConnections connections;
+		final boolean source;
+		final float generatedSpeed;
+		final Relay relay;
+
+		/** Modifier applied by a split shaft to every face but its source. */
+		final float relayModifier;
+
+		Node(KineticTileEntity te, KineticConnections connections) {
+			pos = te.getPos();
+			state = te.getBlockState();
+			this.connections = connections;
+			source = te.isSource();
+			generatedSpeed = source ? te.getSpeed() : 0;
+
+			boolean powered = state.has(BlockStateProperties.POWERED) && state.get(BlockStateProperties.POWERED);
+			if (te instanceof GearboxTileEntity) {
+				relay = Relay.GEARBOX;
+				relayModifier = 1;
+			} else if (te instanceof GearshiftTileEntity) {
+				relay = Relay.SPLIT_SHAFT;
+				relayModifier = powered ? -1 : 1;
+			} else if (te instanceof ClutchTileEntity) {
+				relay = Relay.SPLIT_SHAFT;
+				relayModifier = powered ? 0 : 1;
+			} else {
+				relay = Relay.NONE;
+				relayModifier = 1;
+			}
+		}
+	}
+
+	final List<BlockPos> roots;
+	final Map<BlockPos, Node> nodes;
+
+	private KineticSnapshot(List<BlockPos> roots, Map<BlockPos, Node> nodes) {
+		this.roots = Collections.unmodifiableList(roots);
+		this.nodes = Collections.unmodifiableMap(nodes);
+	}
+
+	public static KineticSnapshot capture(World world, Collection<KineticTileEntity> roots) {
+		List<BlockPos> rootPositions = new ArrayList<>(roots.size());
+		Map<BlockPos, Node> nodes = new LinkedHashMap<>();
+		ArrayDeque<KineticTileEntity> frontier = new ArrayDeque<>(roots);
+		for (KineticTileEntity root : roots)
+			rootPositions.add(root.getPos());
+
+		while (!frontier.isEmpty()) {
+			KineticTileEntity te = frontier.poll();
+			if (te.isRemoved() || nodes.containsKey(te.getPos()))
+				continue;
+
+			KineticConnections connections = RotationPropagator.getConnections(te);
+			nodes.put(te.getPos(), new Node(te, connections));
+
+			for (int i = 0; i < connections.size(); i++) {
+				BlockPos neighbourPos = connections.positions[i];
+				if (nodes.containsKey(neighbourPos))
+					continue;
+				TileEntity neighbour = world.getTileEntity(neighbourPos);
+				if (neighbour instanceof KineticTileEntity)
+					frontier.add((KineticTileEntity) neighbour);
+			}
+		}
+
+		return new KineticSnapshot(rootPositions, nodes);
+	}
+
+	/**
+	 * Captures the same region again, starting from those roots still present.
+	 */
+	public KineticSnapshot recapture(World world) {
+		List<KineticTileEntity> current = new ArrayList<>(roots.size());
+		for (BlockPos pos : roots) {
+			if (!world.isBlockPresent(pos))
+				continue;
+			TileEntity tileEntity = world.getTileEntity(pos);
+			if (tileEntity instanceof KineticTileEntity)
+				current.add((KineticTileEntity) tileEntity);
+		}
+		return capture(world, current);
+	}
+
+	/**
+	 * A snapshot is outdated once any of its tiles was removed, changed its block
+	 * state or connections, or a source in it changed its speed.
+	 */
+	public boolean isUpToDate(World world) {
+		for (Node node : nodes.values()) {
+			if (!world.isBlockPresent(node.pos))
+				return false;
+			TileEntity tileEntity = world.getTileEntity(node.pos);
+			if (!(tileEntity instanceof KineticTileEntity))
+				return false;
+			KineticTileEntity te = (KineticTileEntity) tileEntity;
+			if (te.isRemoved() || te.getBlockState() != node.state || te.getConnections() != node.connections)
+				return false;
+			if (te.isSource() != node.source || node.source && te.getSpeed() != node.generatedSpeed)
+				return false;
+		}
+		return true;
+	}
+
+	public int size() {
+		return nodes.size();
+	}
+
+}
@@ -0,0 +1,177 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.simibubi.create.CreateConfig;
+import com.simibubi.create.modules.contraptions.KineticSnapshot.Node;
+import com.simibubi.create.modules.contraptions.KineticSnapshot.Relay;
+
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Assigns speeds to all tiles of a {@link KineticSnapshot} without touching the
+ * world. Sources spread their speed the same way
+ * {@link RotationPropagator} does, tiles that would have been destroyed there
+ * are reported as conflicts instead.
+ */
+public class KineticSolver {
+
+	private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Create Kinetic Solver");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public static class Solution {
+		public Map<BlockPos, Float> speeds = new HashMap<>();
+		public Map<BlockPos, BlockPos> sources = new HashMap<>();
+		public Map<BlockPos, BlockPos> networks = new HashMap<>();
+		public List<BlockPos> conflicts = new ArrayList<>();
+
+		public float getSpeed(BlockPos pos) {
+			return speeds.getOrDefault(pos, 0f);
+		}
+	}
+
+	KineticSnapshot snapshot;
+	CompletableFuture<Solution> result;
+	int attempts;
+
+	private KineticSolver(KineticSnapshot snapshot, int attempts) {
+		this.snapshot = snapshot;
+		this.attempts = attempts;
+		float maxSpeed = CreateConfig.parameters.maxRotationSpeed.get();
+		result = CompletableFuture.supplyAsync(() -> solve(snapshot, maxSpeed), EXECUTOR);
+	}
+
+	public static KineticSolver submit(KineticSnapshot snapshot) {
+		return new KineticSolver(snapshot, 0);
+	}
+
+	public KineticSolver resubmit(KineticSnapshot snapshot) {
+		return new KineticSolver(snapshot, attempts + 1);
+	}
+
+	public boolean isDone() {
+		return result.isDone();
+	}
+
+	public static Solution solve(KineticSnapshot snapshot, float maxSpeed) {
+		Solution solution = new Solution();
+		Map<BlockPos, BlockPos> parents = new HashMap<>();
+		Set<BlockPos> expanded = new HashSet<>();
+		ArrayDeque<Node> frontier = new ArrayDeque<>();
+
+		for (Node node : snapshot.nodes.values()) {
+			if (!node.source)
+				continue;
+			solution.speeds.put(node.pos, node.generatedSpeed);
+			if (node.generatedSpeed != 0) {
+				parents.put(node.pos, node.pos);
+				frontier.add(node);
+			}
+		}
+
+		while (!frontier.isEmpty()) {
+			Node current = frontier.poll();
+			if (!expanded.add(current.pos))
+				continue;
+			float speed = solution.getSpeed(current.pos);
+			KineticConnections connections = current.connections;
+
+			for (int i = 0; i < connections.size(); i++) {
+				Node neighbour = snapshot.nodes.get(connections.positions[i]);
+				if (neighbour == null)
+					continue;
+				float modifier = getModifier(solution, current, neighbour, i);
+				if (modifier == 0)
+					continue;
+				float newSpeed = speed * modifier;
+				BlockPos neighbourSource = solution.sources.get(neighbour.pos);
+
+				if (neighbour.source || neighbourSource != null && !neighbourSource.equals(current.pos)) {
+					float neighbourSpeed = solution.getSpeed(neighbour.pos);
+					if (neighbourSpeed != newSpeed || Math.abs(newSpeed) > maxSpeed) {
+						solution.conflicts.add(current.pos);
+						break;
+					}
+
+					// Two compatible networks meet
+					if (neighbourSpeed != 0)
+						union(parents, current.pos, neighbour.pos);
+					continue;
+				}
+
+				if (solution.getSpeed(neighbour.pos) == newSpeed)
+					continue;
+
+				solution.speeds.put(neighbour.pos, newSpeed);
+				solution.sources.put(neighbour.pos, current.pos);
+				parents.put(neighbour.pos, find(parents, current.pos));
+				frontier.add(neighbour);
+			}
+		}
+
+		for (BlockPos pos : parents.keySet())
+			if (solution.getSpeed(pos) != 0)
+				solution.networks.put(pos, find(parents, pos));
+		return solution;
+	}
+
+	private static float getModifier(Solution solution, Node from, Node to, int connection) {
+		Direction shaftFace = from.connections.shaftFaces[connection];
+		if (shaftFace == null)
+			return from.connections.ratios[connection];
+		return getAxisModifier(solution, from, shaftFace) * getAxisModifier(solution, to, shaftFace.getOpposite());
+	}
+
+	/**
+	 * Mirrors the axis modifiers in {@link RotationPropagator}, using the sources
+	 * assigned so far instead of those stored in the tiles.
+	 */
+	private static float getAxisModifier(Solution solution, Node node, Direction direction) {
+		BlockPos sourcePos = solution.sources.get(node.pos);
+		if (sourcePos == null || node.relay == Relay.NONE)
+			return 1;
+		BlockPos diff = sourcePos.subtract(node.pos);
+		Direction source = Direction.getFacingFromVector(diff.getX(), diff.getY(), diff.getZ());
+
+		if (node.relay == Relay.GEARBOX)
+			return direction.getAxis() == source.getAxis() ? direction == source ? 1 : -1
+					: direction.getAxisDirection() == source.getAxisDirection() ? -1 : 1;
+
+		return direction == source ? 1 : node.relayModifier;
+	}
+
+	private static BlockPos find(Map<BlockPos, BlockPos> parents, BlockPos pos) {
+		BlockPos root = pos;
+		while (!parents.get(root).equals(root))
+			root = parents.get(root);
+
+		// Flatten the path for subsequent lookups
+		while (!pos.equals(root)) {
+			BlockPos next = parents.get(pos);
+			parents.put(pos, root);
+			pos = next;
+		}
+		return root;
+	}
+
+	private static void union(Map<BlockPos, BlockPos> parents, BlockPos first, BlockPos second) {
+		BlockPos firstRoot = find(parents, first);
+		BlockPos secondRoot = find(parents, second);
+		if (!firstRoot.equals(secondRoot))
+			parents.put(secondRoot, firstRoot);
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.simibubi.create.foundation.packet.SimplePacketBase;
+import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Speeds and sources of all kinetic tiles in one chunk that changed during a
+ * tick. Positions are sent relative to the chunk, a tile without a source
+ * sends its own position as the source.
+ */
+public class KineticUpdatePacket extends SimplePacketBase {
+
+	private int chunkX;
+	private int chunkZ;
+	private short[] positions;
+	private float[] speeds;
+	private long[] sources;
+
+	public KineticUpdatePacket(ChunkPos chunk, List<KineticTileEntity> tiles) {
+		chunkX = chunk.x;
+		chunkZ = chunk.z;
+		positions = new short[tiles.size()];
+		speeds = new float[tiles.size()];
+		sources = new long[tiles.size()];
+
+		for (int i = 0; i < tiles.size(); i++) {
+			KineticTileEntity te = tiles.get(i);
+			BlockPos pos = te.getPos();
+			positions[i] = (short) ((pos.getX() & 15) << 12 | (pos.getZ() & 15) << 8 | pos.getY() & 255);
+			speeds[i] = te.getSpeed();
+			sources[i] = te.hasSource() ? te.getSource().toLong() : pos.toLong();
+		}
+	}
+
+	public KineticUpdatePacket(PacketBuffer buffer) {
+		chunkX = buffer.readInt();
+		chunkZ = buffer.readInt();
+		int size = buffer.readVarInt();
+		positions = new short[size];
+		speeds = new float[size];
+		sources = new long[size];
+
+		for (int i = 0; i < size; i++) {
+			positions[i] = buffer.readShort();
+			speeds[i] = buffer.readFloat();
+			sources[i] = buffer.readLong();
+		}
+	}
+
+	@Override
+	public void write(PacketBuffer buffer) {
+		buffer.writeInt(chunkX);
+		buffer.writeInt(chunkZ);
+		buffer.writeVarInt(positions.length);
+
+		for (int i = 0; i < positions.length; i++) {
+			buffer.writeShort(positions[i]);
+			buffer.writeFloat(speeds[i]);
+			buffer.writeLong(sources[i]);
+		}
+	}
+
+	@Override
+	public void handle(Supplier<Context> context) {
+		context.get().enqueueWork(() -> DistExecutor.runWhenOn(Dist.CLIENT, () -> () -> {
+			ClientWorld world = Minecraft.getInstance().world;
+			if (world == null || !world.chunkExists(chunkX, chunkZ))
+				return;
+
+			for (int i = 0; i < positions.length; i++) {
+				BlockPos pos = getPos(positions[i]);
+				TileEntity tileEntity = world.getTileEntity(pos);
+				if (!(tileEntity instanceof KineticTileEntity))
+					continue;
+				BlockPos source = BlockPos.fromLong(sources[i]);
+				((KineticTileEntity) tileEntity).readKineticUpdate(speeds[i], source.equals(pos) ? null : source);
+			}
+		}));
+		context.get().setPacketHandled(true);
+	}
+
+	private BlockPos getPos(short packed) {
+		int x = chunkX << 4 | packed >> 12 & 15;
+		int z = chunkZ << 4 | packed >> 8 & 15;
+		int y = packed & 255;
+		return new BlockPos(x, y, z);
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.simibubi.create.modules.contraptions;
+
+import java.util.ArrayDeque;
+
+import com.simibubi.create.CreateConfig;
+
+/**
+ * Kinetic propagation work of one world that did not fit into the budget of
+ * the current tick. Positions are stored packed, so a removed block simply
+ * fails to resolve once the work is resumed.
+ */
+public class PropagationQueue {
+
+	ArrayDeque<Long> missingSource;
+	ArrayDeque<Long> newSource;
+	int budgetLeft;
+
+	public PropagationQueue() {
+		missingSource = new ArrayDeque<>();
+		newSource = new ArrayDeque<>();
+		resetBudget();
+	}
+
+	public void resetBudget() {
+		budgetLeft = CreateConfig.parameters.maxPropagationsPerTick.get();
+	}
+
+	public boolean consume() {
+		if (budgetLeft <= 0)
+			return false;
+		budgetLeft--;
+		return true;
+	}
+
+	public boolean isEmpty() {
+		return missingSource.isEmpty() && newSource.isEmpty();
+	}
+
+}
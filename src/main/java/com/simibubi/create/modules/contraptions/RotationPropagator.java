@@ -7,10 +7,16 @@ import static com.simibubi.create.AllBlocks.LARGE_COGWHEEL;
 import static com.simibubi.create.CreateConfig.parameters;
 import static net.minecraft.state.properties.BlockStateProperties.AXIS;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import com.simibubi.create.AllBlocks;
+import com.simibubi.create.Create;
 import com.simibubi.create.CreateConfig;
 import com.simibubi.create.modules.contraptions.base.IRotate;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
@@ -19,7 +25,9 @@ import com.simibubi.create.modules.contraptions.relays.GearboxTileEntity;
 import com.simibubi.create.modules.contraptions.relays.SplitShaftTileEntity;
 import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.BlockState;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.math.BlockPos;
@@ -27,6 +35,38 @@ import net.minecraft.world.World;
 
 public class RotationPropagator {
 
+	private static final BlockPos[] FACE_OFFSETS;
+	private static final BlockPos[] LARGE_GEAR_OFFSETS;
+	private static final Map<Axis, BlockPos[]> SMALL_GEAR_OFFSETS;
+
+	static {
+		List<BlockPos> faces = new ArrayList<>();
+		for (Direction facing : Direction.values())
+			faces.add(BlockPos.ZERO.offset(facing));
+
+		// Some Blocks can interface diagonally
+		List<BlockPos> diagonals = new ArrayList<>();
+		BlockPos.getAllInBox(new BlockPos(-1, -1, -1), new BlockPos(1, 1, 1)).forEach(offset -> {
+			if (offset.distanceSq(0, 0, 0, false) != BlockPos.ZERO.distanceSq(1, 1, 0, false))
+				return;
+			diagonals.add(offset.toImmutable());
+		});
+
+		FACE_OFFSETS = faces.toArray(new BlockPos[0]);
+		List<BlockPos> largeGear = new ArrayList<>(faces);
+		largeGear.addAll(diagonals);
+		LARGE_GEAR_OFFSETS = largeGear.toArray(new BlockPos[0]);
+
+		SMALL_GEAR_OFFSETS = new EnumMap<>(Axis.class);
+		for (Axis axis : Axis.values()) {
+			List<BlockPos> smallGear = new ArrayList<>(faces);
+			for (BlockPos offset : diagonals)
+				if (axis.getCoordinate(offset.getX(), offset.getY(), offset.getZ()) == 0)
+					smallGear.add(offset);
+			SMALL_GEAR_OFFSETS.put(axis, smallGear.toArray(new BlockPos[0]));
+		}
+	}
+
 	/**
 	 * Determines the change in rotation between two attached kinetic entities. For
 	 * instance, an axis connection returns 1 while a 1-to-1 gear connection
@@ -37,6 +77,27 @@ public class RotationPropagator {
 	 * @return
 	 */
 	private static float getRotationSpeedModifier(KineticTileEntity from, KineticTileEntity to) {
+		KineticConnections connections = getConnections(from);
+		int index = connections.indexOf(to.getPos());
+		if (index == -1)
+			return 0;
+
+		Direction shaftFace = connections.shaftFaces[index];
+		if (shaftFace == null)
+			return connections.ratios[index];
+		return getAxisModifier(from, shaftFace) * getAxisModifier(to, shaftFace.getOpposite());
+	}
+
+	/**
+	 * Determines the connection between two kinetic entities from their block
+	 * states. Connections by axis are reported through the shaft face and are
+	 * resolved against the current sources whenever the ratio is needed.
+	 * 
+	 * @param connections
+	 * @param from
+	 * @param to
+	 */
+	private static void addConnection(KineticConnections connections, KineticTileEntity from, KineticTileEntity to) {
 		final BlockState stateFrom = from.getBlockState();
 		final BlockState stateTo = to.getBlockState();
 		final IRotate definitionFrom = (IRotate) stateFrom.getBlock();
@@ -50,18 +111,31 @@ public class RotationPropagator {
 		boolean connectedByGears = definitionFrom.hasCogsTowards(world, from.getPos(), stateFrom, direction)
 				&& definitionTo.hasCogsTowards(world, to.getPos(), stateTo, direction.getOpposite());
 
-		// Belt <-> Belt
-		if (from instanceof BeltTileEntity && to instanceof BeltTileEntity && !connectedByAxis) {
-			return ((BeltTileEntity) from).getController().equals(((BeltTileEntity) to).getController()) ? 1 : 0;
-		}
-
 		// Gearbox <-> Gearbox
 		if (from instanceof GearboxTileEntity && to instanceof GearboxTileEntity)
-			return 0;
+			return;
 
 		// Axis <-> Axis
 		if (connectedByAxis) {
-			return getAxisModifier(from, direction) * getAxisModifier(to, direction.getOpposite());
+			connections.add(to.getPos(), 1, direction);
+			return;
+		}
+
+		float modifier = getStaticRotationSpeedModifier(from, to, connectedByGears);
+		if (modifier != 0)
+			connections.add(to.getPos(), modifier, null);
+	}
+
+	private static float getStaticRotationSpeedModifier(KineticTileEntity from, KineticTileEntity to,
+			boolean connectedByGears) {
+		final BlockState stateFrom = from.getBlockState();
+		final BlockState stateTo = to.getBlockState();
+		final BlockPos diff = to.getPos().subtract(from.getPos());
+		final Direction direction = Direction.getFacingFromVector(diff.getX(), diff.getY(), diff.getZ());
+
+		// Belt <-> Belt
+		if (from instanceof BeltTileEntity && to instanceof BeltTileEntity) {
+			return ((BeltTileEntity) from).getController().equals(((BeltTileEntity) to).getController()) ? 1 : 0;
 		}
 
 		// Attached Encased Belts
@@ -159,18 +233,34 @@ public class RotationPropagator {
 	}
 
 	/**
-	 * Insert the added position to the kinetic network.
+	 * Queue the added position for insertion into the kinetic network at the end
+	 * of the tick.
 	 * 
 	 * @param worldIn
 	 * @param pos
 	 */
 	public static void handleAdded(World worldIn, BlockPos pos, KineticTileEntity addedTE) {
+		if (worldIn.isRemote || isFrozen())
+			return;
+		if (addedTE == null)
+			return;
+		Create.kineticNetworkHandler.getChanges(worldIn).added(addedTE);
+	}
+
+	/**
+	 * Insert the added position to the kinetic network.
+	 * 
+	 * @param worldIn
+	 * @param pos
+	 */
+	static void attach(World worldIn, BlockPos pos, KineticTileEntity addedTE) {
 		if (worldIn.isRemote || isFrozen())
 			return;
 		if (!worldIn.isBlockPresent(pos))
 			return;
 
 		if (addedTE.getSpeed() != 0) {
+			getOrCreateNetwork(addedTE).add(addedTE);
 			propagateNewSource(addedTE);
 			return;
 		}
@@ -182,15 +272,15 @@ public class RotationPropagator {
 				continue;
 			if (neighbourTE.hasSource() && neighbourTE.getSource().equals(addedTE.getPos())) {
 				addedTE.setSpeed(neighbourTE.getSpeed() * speedModifier);
-				addedTE.onSpeedChanged();
-				addedTE.sendData();
+				joinNetworkOf(addedTE, neighbourTE);
+				markChanged(addedTE);
 				continue;
 			}
 
 			addedTE.setSpeed(neighbourTE.getSpeed() * speedModifier);
 			addedTE.setSource(neighbourTE.getPos());
-			addedTE.onSpeedChanged();
-			addedTE.sendData();
+			joinNetworkOf(addedTE, neighbourTE);
+			markChanged(addedTE);
 			propagateNewSource(addedTE);
 			return;
 		}
@@ -202,35 +292,67 @@ public class RotationPropagator {
 	 * @param updateTE
 	 */
 	private static void propagateNewSource(KineticTileEntity updateTE) {
-		BlockPos pos = updateTE.getPos();
-		World world = updateTE.getWorld();
+		ArrayDeque<KineticTileEntity> frontier = new ArrayDeque<>();
+		frontier.add(updateTE);
+		propagateNewSources(updateTE.getWorld(), frontier);
+	}
 
-		for (KineticTileEntity neighbourTE : getConnectedNeighbours(updateTE)) {
-			final float newSpeed = updateTE.getSpeed() * getRotationSpeedModifier(updateTE, neighbourTE);
+	/**
+	 * Breadth-first pass handing speed from every entity in the frontier to its
+	 * sourceless neighbours. Stops once the tick's work budget is used up, the
+	 * remaining frontier is then picked up again on the following ticks.
+	 * 
+	 * @param world
+	 * @param frontier
+	 */
+	private static void propagateNewSources(World world, ArrayDeque<KineticTileEntity> frontier) {
+		PropagationQueue queue = Create.kineticNetworkHandler.getQueue(world);
+		LongOpenHashSet visited = new LongOpenHashSet();
 
-			if ((neighbourTE.isSource())
-					|| neighbourTE.hasSource() && !neighbourTE.getSource().equals(updateTE.getPos())) {
-				if (neighbourTE.getSpeed() != newSpeed || Math.abs(newSpeed) > parameters.maxRotationSpeed.get()) {
-					world.destroyBlock(pos, true);
-					return;
-				}
-				continue;
+		while (!frontier.isEmpty()) {
+			if (!queue.consume()) {
+				defer(frontier, queue.newSource);
+				return;
 			}
 
-			if (neighbourTE.getSpeed() == newSpeed)
+			final KineticTileEntity currentTE = frontier.poll();
+			final BlockPos pos = currentTE.getPos();
+			if (currentTE.isRemoved() || currentTE.getSpeed() == 0)
+				continue;
+			if (!visited.add(pos.toLong()))
 				continue;
 
-			neighbourTE.setSpeed(newSpeed);
-			neighbourTE.setSource(updateTE.getPos());
-			neighbourTE.onSpeedChanged();
-			neighbourTE.sendData();
-			propagateNewSource(neighbourTE);
+			for (KineticTileEntity neighbourTE : getConnectedNeighbours(currentTE)) {
+				final float newSpeed = currentTE.getSpeed() * getRotationSpeedModifier(currentTE, neighbourTE);
+
+				if ((neighbourTE.isSource())
+						|| neighbourTE.hasSource() && !neighbourTE.getSource().equals(pos)) {
+					if (neighbourTE.getSpeed() != newSpeed || Math.abs(newSpeed) > parameters.maxRotationSpeed.get()) {
+						world.destroyBlock(pos, true);
+						break;
+					}
+
+					// Two compatible networks meet
+					if (neighbourTE.getSpeed() != 0)
+						Create.kineticNetworkHandler.merge(world, getOrCreateNetwork(currentTE),
+								getOrCreateNetwork(neighbourTE));
+					continue;
+				}
+
+				if (neighbourTE.getSpeed() == newSpeed)
+					continue;
 
+				neighbourTE.setSpeed(newSpeed);
+				neighbourTE.setSource(pos);
+				joinNetworkOf(neighbourTE, currentTE);
+				markChanged(neighbourTE);
+				frontier.add(neighbourTE);
+			}
 		}
 	}
 
 	/**
-	 * Remove the given entity from the network.
+	 * Queue the given entity for removal from the network at the end of the tick.
 	 * 
 	 * @param worldIn
 	 * @param pos
@@ -241,9 +363,33 @@ public class RotationPropagator {
 			return;
 		if (removedTE == null)
 			return;
-		if (removedTE.getSpeed() == 0)
+		Create.kineticNetworkHandler.getChanges(worldIn).removed(removedTE);
+	}
+
+	/**
+	 * Remove the given entity from the network.
+	 * 
+	 * @param worldIn
+	 * @param pos
+	 * @param removedTE
+	 * @param previousSpeed the speed the entity had when it was last propagated
+	 */
+	static void detach(World worldIn, BlockPos pos, KineticTileEntity removedTE, float previousSpeed) {
+		if (worldIn.isRemote || isFrozen())
+			return;
+		if (removedTE == null)
+			return;
+		if (previousSpeed == 0)
 			return;
 
+		// Without its only source, the whole network stops and no search is needed
+		KineticNetworkHandler networkHandler = Create.kineticNetworkHandler;
+		KineticNetwork network = networkHandler.getNetworkOf(removedTE);
+		if (network != null && network.isSoleSource(pos))
+			networkHandler.dissolve(worldIn, network);
+		else
+			networkHandler.leave(removedTE);
+
 		for (BlockPos neighbourPos : getPotentialNeighbourLocations(removedTE)) {
 			BlockState neighbourState = worldIn.getBlockState(neighbourPos);
 			if (!(neighbourState.getBlock() instanceof IRotate))
@@ -265,18 +411,32 @@ public class RotationPropagator {
 	 * @param updateTE
 	 */
 	private static void propagateMissingSource(KineticTileEntity updateTE) {
-		final World world = updateTE.getWorld();
+		ArrayDeque<KineticTileEntity> frontier = new ArrayDeque<>();
+		frontier.add(updateTE);
+		propagateMissingSources(updateTE.getWorld(), frontier);
+	}
 
-		List<KineticTileEntity> potentialNewSources = new LinkedList<>();
-		List<BlockPos> frontier = new LinkedList<>();
-		frontier.add(updateTE.getPos());
+	private static void propagateMissingSources(World world, ArrayDeque<KineticTileEntity> frontier) {
+		PropagationQueue queue = Create.kineticNetworkHandler.getQueue(world);
+		LongOpenHashSet visited = new LongOpenHashSet();
+		List<KineticTileEntity> potentialNewSources = new ArrayList<>();
 
 		while (!frontier.isEmpty()) {
-			final BlockPos pos = frontier.remove(0);
-			final KineticTileEntity currentTE = (KineticTileEntity) world.getTileEntity(pos);
+			if (!queue.consume()) {
+				defer(frontier, queue.missingSource);
+				break;
+			}
+
+			final KineticTileEntity currentTE = frontier.poll();
+			final BlockPos pos = currentTE.getPos();
+			if (currentTE.isRemoved())
+				continue;
+			if (!visited.add(pos.toLong()))
+				continue;
 
 			currentTE.removeSource();
-			currentTE.sendData();
+			Create.kineticNetworkHandler.leave(currentTE);
+			markChanged(currentTE);
 
 			for (KineticTileEntity neighbourTE : getConnectedNeighbours(currentTE)) {
 				if (neighbourTE.isSource()) {
@@ -292,10 +452,17 @@ public class RotationPropagator {
 					continue;
 				}
 
-				frontier.add(neighbourTE.getPos());
+				frontier.add(neighbourTE);
 			}
 		}
 
+		// Parts of the subnetwork are still spinning, look for new sources later
+		if (!queue.missingSource.isEmpty()) {
+			for (KineticTileEntity newSource : potentialNewSources)
+				queue.newSource.add(newSource.getPos().toLong());
+			return;
+		}
+
 		for (KineticTileEntity newSource : potentialNewSources) {
 			if (newSource.hasSource() || newSource.isSource()) {
 				propagateNewSource(newSource);
@@ -304,57 +471,373 @@ public class RotationPropagator {
 		}
 	}
 
-	private static KineticTileEntity findConnectedNeighbour(KineticTileEntity te, BlockPos neighbourPos) {
-		BlockState neighbourState = te.getWorld().getBlockState(neighbourPos);
-		if (!(neighbourState.getBlock() instanceof IRotate))
-			return null;
-		if (!neighbourState.hasTileEntity())
-			return null;
+	/**
+	 * Queue a reversal of everything driven through the given entity, for
+	 * instance when a gearshift is toggled.
+	 * 
+	 * @param worldIn
+	 * @param pos
+	 * @param te
+	 */
+	public static void handleReversed(World worldIn, BlockPos pos, KineticTileEntity te) {
+		if (worldIn.isRemote || isFrozen())
+			return;
+		if (te == null)
+			return;
+		Create.kineticNetworkHandler.getChanges(worldIn).reversed(te);
+	}
+
+	/**
+	 * Apply the new speed of a source to everything it drives without clearing
+	 * and rebuilding its network.
+	 * 
+	 * @param world
+	 * @param te
+	 * @param previousSpeed
+	 * @return false if the network has to be propagated from scratch instead
+	 */
+	static boolean rescale(World world, KineticTileEntity te, float previousSpeed) {
+		if (isFrozen())
+			return true;
+		if (previousSpeed == 0 || te.getSpeed() == 0 || previousSpeed == te.getSpeed())
+			return false;
+		if (!te.isSource())
+			return false;
+
+		float factor = te.getSpeed() / previousSpeed;
+		KineticNetwork network = Create.kineticNetworkHandler.getNetworkOf(te);
+		if (network != null && network.isSoleSource(te.getPos()))
+			return rescaleNetwork(world, network, factor);
+		return rescaleDependents(world, te, factor);
+	}
 
-		KineticTileEntity neighbour = (KineticTileEntity) te.getWorld().getTileEntity(neighbourPos);
-		if (getRotationSpeedModifier(te, neighbour) == 0)
-			return null;
-		return neighbour;
+	/**
+	 * Negate the speed of everything driven through the given entity.
+	 * 
+	 * @param world
+	 * @param te
+	 * @return false if the network has to be propagated from scratch instead
+	 */
+	static boolean reverse(World world, KineticTileEntity te) {
+		if (isFrozen())
+			return true;
+		if (te.getSpeed() == 0)
+			return true;
+		return rescaleDependents(world, te, -1);
 	}
 
-	private static List<KineticTileEntity> getConnectedNeighbours(KineticTileEntity te) {
-		List<KineticTileEntity> neighbours = new LinkedList<>();
+	private static boolean rescaleNetwork(World world, KineticNetwork network, float factor) {
+		float newSpeed = network.speed * factor;
+		for (float ratio : network.members.values())
+			if (Math.abs(ratio * newSpeed) > parameters.maxRotationSpeed.get())
+				return false;
+
+		network.speed = newSpeed;
+		network.members.forEach((pos, ratio) -> {
+			TileEntity tileEntity = world.getTileEntity(pos);
+			if (!(tileEntity instanceof KineticTileEntity))
+				return;
+			KineticTileEntity te = (KineticTileEntity) tileEntity;
+			if (te.isSource())
+				return;
+			te.setSpeed(ratio * newSpeed);
+			markChanged(te);
+		});
+		return true;
+	}
+
+	/**
+	 * Scales the subtree of entities receiving their rotation through the given
+	 * root, whose speed is assumed to be final already. Nothing is changed if
+	 * the scaled subtree would no longer fit the entities around it.
+	 */
+	private static boolean rescaleDependents(World world, KineticTileEntity root, float factor) {
+		LongOpenHashSet subtree = new LongOpenHashSet();
+		List<KineticTileEntity> dependents = new ArrayList<>();
+		ArrayDeque<KineticTileEntity> frontier = new ArrayDeque<>();
+		subtree.add(root.getPos().toLong());
+		frontier.add(root);
+
+		while (!frontier.isEmpty()) {
+			KineticTileEntity currentTE = frontier.poll();
+			for (KineticTileEntity neighbourTE : getConnectedNeighbours(currentTE)) {
+				if (neighbourTE.isSource() || !neighbourTE.hasSource())
+					continue;
+				if (!neighbourTE.getSource().equals(currentTE.getPos()))
+					continue;
+				if (!subtree.add(neighbourTE.getPos().toLong()))
+					continue;
+				dependents.add(neighbourTE);
+				frontier.add(neighbourTE);
+			}
+		}
+
+		// Check the edges leaving the subtree and those leading back into the root
+		if (!fitsSurroundings(root, root.getSpeed(), subtree, root))
+			return false;
+		for (KineticTileEntity te : dependents) {
+			float newSpeed = te.getSpeed() * factor;
+			if (Math.abs(newSpeed) > parameters.maxRotationSpeed.get())
+				return false;
+			if (!fitsSurroundings(te, newSpeed, subtree, root))
+				return false;
+		}
+
+		for (KineticTileEntity te : dependents) {
+			te.setSpeed(te.getSpeed() * factor);
+			KineticNetwork network = Create.kineticNetworkHandler.getNetworkOf(te);
+			if (network != null)
+				network.add(te);
+			markChanged(te);
+		}
+		return true;
+	}
+
+	private static boolean fitsSurroundings(KineticTileEntity te, float newSpeed, LongOpenHashSet subtree,
+			KineticTileEntity root) {
+		for (KineticTileEntity neighbourTE : getConnectedNeighbours(te)) {
+			if (neighbourTE.getSpeed() == 0)
+				continue;
+
+			// Both ends are scaled alike, or the edge is checked from the other end
+			boolean inSubtree = subtree.contains(neighbourTE.getPos().toLong());
+			if (inSubtree && neighbourTE != root)
+				continue;
+
+			if (neighbourTE.getSpeed() != newSpeed * getRotationSpeedModifier(te, neighbourTE))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Hand the change of the given entity over to the background solver if it
+	 * touches a network too large to be propagated on the server thread.
+	 * 
+	 * @param world
+	 * @param te
+	 * @return true if the change will be applied once solved
+	 */
+	static boolean offload(World world, KineticTileEntity te) {
+		int threshold = parameters.asyncSolverThreshold.get();
+		if (threshold <= 0 || isFrozen())
+			return false;
+
+		KineticNetworkHandler networkHandler = Create.kineticNetworkHandler;
+		List<KineticTileEntity> roots = new ArrayList<>();
+		boolean large = getNetworkSize(te) >= threshold;
+		if (!te.isRemoved())
+			roots.add(te);
+
 		for (BlockPos neighbourPos : getPotentialNeighbourLocations(te)) {
-			final KineticTileEntity neighbourTE = findConnectedNeighbour(te, neighbourPos);
-			if (neighbourTE == null)
+			TileEntity neighbour = world.getTileEntity(neighbourPos);
+			if (!(neighbour instanceof KineticTileEntity) || neighbour.isRemoved())
+				continue;
+			KineticTileEntity neighbourTE = (KineticTileEntity) neighbour;
+			large |= getNetworkSize(neighbourTE) >= threshold;
+			if (te.isRemoved())
+				roots.add(neighbourTE);
+		}
+
+		if (!large)
+			return false;
+		if (te.isRemoved())
+			networkHandler.leave(te);
+		networkHandler.solve(world, KineticSnapshot.capture(world, roots));
+		return true;
+	}
+
+	private static int getNetworkSize(KineticTileEntity te) {
+		KineticNetwork network = Create.kineticNetworkHandler.getNetworkOf(te);
+		return network == null ? 0 : network.size();
+	}
+
+	/**
+	 * Write the speeds found by the background solver back into the world. The
+	 * networks of the region are rebuilt from the solution, tiles which would
+	 * have broken during regular propagation break now.
+	 * 
+	 * @param world
+	 * @param snapshot
+	 * @param solution
+	 */
+	static void applySolution(World world, KineticSnapshot snapshot, KineticSolver.Solution solution) {
+		KineticNetworkHandler networkHandler = Create.kineticNetworkHandler;
+		Map<BlockPos, KineticNetwork> networks = new HashMap<>();
+
+		for (BlockPos pos : snapshot.nodes.keySet()) {
+			KineticTileEntity te = (KineticTileEntity) world.getTileEntity(pos);
+			float speed = solution.getSpeed(pos);
+			BlockPos source = solution.sources.get(pos);
+			BlockPos currentSource = te.hasSource() ? te.getSource() : null;
+
+			if (!te.isSource() && (te.getSpeed() != speed || !Objects.equals(currentSource, source))) {
+				te.setSource(source);
+				te.setSpeed(speed);
+				markChanged(te);
+			}
+
+			networkHandler.leave(te);
+			if (speed == 0)
+				continue;
+
+			BlockPos networkRoot = solution.networks.get(pos);
+			KineticNetwork network = networks.get(networkRoot);
+			if (network == null)
+				networks.put(networkRoot, networkHandler.createNetworkFor(te));
+			else
+				networkHandler.join(te, network);
+		}
+
+		for (BlockPos pos : solution.conflicts)
+			world.destroyBlock(pos, true);
+	}
+
+	/**
+	 * Continue propagation work left over from previous ticks. Clearing
+	 * subnetworks has to finish before new sources may spread into them.
+	 * 
+	 * @param world
+	 * @param queue
+	 */
+	public static void resume(World world, PropagationQueue queue) {
+		if (isFrozen())
+			return;
+
+		if (!queue.missingSource.isEmpty()) {
+			propagateMissingSources(world, resolve(world, queue.missingSource));
+			if (!queue.missingSource.isEmpty())
+				return;
+		}
+
+		ArrayDeque<KineticTileEntity> frontier = resolve(world, queue.newSource);
+		frontier.removeIf(te -> !te.hasSource() && !te.isSource());
+		propagateNewSources(world, frontier);
+	}
+
+	private static void defer(ArrayDeque<KineticTileEntity> frontier, ArrayDeque<Long> pending) {
+		for (KineticTileEntity te : frontier)
+			pending.add(te.getPos().toLong());
+		frontier.clear();
+	}
+
+	private static ArrayDeque<KineticTileEntity> resolve(World world, ArrayDeque<Long> pending) {
+		ArrayDeque<KineticTileEntity> frontier = new ArrayDeque<>(pending.size());
+		while (!pending.isEmpty()) {
+			BlockPos pos = BlockPos.fromLong(pending.poll());
+			if (!world.isBlockPresent(pos))
+				continue;
+			TileEntity tileEntity = world.getTileEntity(pos);
+			if (tileEntity instanceof KineticTileEntity)
+				frontier.add((KineticTileEntity) tileEntity);
+		}
+		return frontier;
+	}
+
+	private static void markChanged(KineticTileEntity te) {
+		Create.kineticNetworkHandler.getChanges(te.getWorld()).markChanged(te);
+	}
+
+	private static KineticNetwork getOrCreateNetwork(KineticTileEntity te) {
+		KineticNetwork network = Create.kineticNetworkHandler.getNetworkOf(te);
+		if (network == null)
+			network = Create.kineticNetworkHandler.createNetworkFor(te);
+		return network;
+	}
+
+	private static void joinNetworkOf(KineticTileEntity te, KineticTileEntity neighbour) {
+		Create.kineticNetworkHandler.join(te, getOrCreateNetwork(neighbour));
+	}
+
+	/**
+	 * Forget the cached connections of all kinetic entities that could have been
+	 * connected to the given position.
+	 * 
+	 * @param world
+	 * @param pos
+	 */
+	public static void invalidateConnections(World world, BlockPos pos) {
+		if (world.isRemote)
+			return;
+		for (BlockPos offset : LARGE_GEAR_OFFSETS)
+			invalidateConnectionsAt(world, pos.add(offset));
+		invalidateConnectionsAt(world, pos);
+	}
+
+	private static void invalidateConnectionsAt(World world, BlockPos pos) {
+		if (!world.isBlockPresent(pos))
+			return;
+		TileEntity tileEntity = world.getTileEntity(pos);
+		if (tileEntity instanceof KineticTileEntity)
+			((KineticTileEntity) tileEntity).invalidateConnections();
+	}
+
+	static KineticConnections getConnections(KineticTileEntity te) {
+		KineticConnections connections = te.getConnections();
+		if (connections != null)
+			return connections;
+
+		if (!te.getWorld().isAreaLoaded(te.getPos(), 1))
+			return KineticConnections.NONE;
+
+		BlockPos[] offsets = getPotentialNeighbourOffsets(te);
+		connections = new KineticConnections(offsets.length);
+		for (BlockPos offset : offsets) {
+			BlockPos neighbourPos = te.getPos().add(offset);
+			BlockState neighbourState = te.getWorld().getBlockState(neighbourPos);
+			if (!(neighbourState.getBlock() instanceof IRotate))
+				continue;
+			if (!neighbourState.hasTileEntity())
+				continue;
+			TileEntity neighbour = te.getWorld().getTileEntity(neighbourPos);
+			if (!(neighbour instanceof KineticTileEntity))
+				continue;
+			addConnection(connections, te, (KineticTileEntity) neighbour);
+		}
+
+		connections = connections.trim();
+		te.setConnections(connections);
+		return connections;
+	}
+
+	private static List<KineticTileEntity> getConnectedNeighbours(KineticTileEntity te) {
+		KineticConnections connections = getConnections(te);
+		List<KineticTileEntity> neighbours = new ArrayList<>(connections.size());
+		for (int i = 0; i < connections.size(); i++) {
+			TileEntity neighbourTE = te.getWorld().getTileEntity(connections.positions[i]);
+			if (!(neighbourTE instanceof KineticTileEntity))
+				continue;
+			KineticTileEntity neighbour = (KineticTileEntity) neighbourTE;
+
+			// Disengaged clutches and the like
+			Direction shaftFace = connections.shaftFaces[i];
+			if (shaftFace != null
+					&& getAxisModifier(te, shaftFace) * getAxisModifier(neighbour, shaftFace.getOpposite()) == 0)
 				continue;
 
-			neighbours.add(neighbourTE);
+			neighbours.add(neighbour);
 		}
 		return neighbours;
 	}
 
 	private static List<BlockPos> getPotentialNeighbourLocations(KineticTileEntity te) {
-		List<BlockPos> neighbours = new LinkedList<>();
+		List<BlockPos> neighbours = new ArrayList<>();
 
 		if (!te.getWorld().isAreaLoaded(te.getPos(), 1))
 			return neighbours;
 
-		for (Direction facing : Direction.values())
-			neighbours.add(te.getPos().offset(facing));
+		for (BlockPos offset : getPotentialNeighbourOffsets(te))
+			neighbours.add(te.getPos().add(offset));
+		return neighbours;
+	}
 
-		// Some Blocks can interface diagonally
+	private static BlockPos[] getPotentialNeighbourOffsets(KineticTileEntity te) {
 		BlockState blockState = te.getBlockState();
-		boolean isLargeWheel = LARGE_COGWHEEL.typeOf(blockState);
-
-		if (COGWHEEL.typeOf(blockState) || isLargeWheel || BELT.typeOf(blockState)) {
-			Axis axis = ((IRotate) blockState.getBlock()).getRotationAxis(blockState);
-
-			BlockPos.getAllInBox(new BlockPos(-1, -1, -1), new BlockPos(1, 1, 1)).forEach(offset -> {
-				if (!isLargeWheel && axis.getCoordinate(offset.getX(), offset.getY(), offset.getZ()) != 0)
-					return;
-				if (offset.distanceSq(0, 0, 0, false) != BlockPos.ZERO.distanceSq(1, 1, 0, false))
-					return;
-				neighbours.add(te.getPos().add(offset));
-			});
-		}
-
-		return neighbours;
+		if (LARGE_COGWHEEL.typeOf(blockState))
+			return LARGE_GEAR_OFFSETS;
+		if (COGWHEEL.typeOf(blockState) || BELT.typeOf(blockState))
+			return SMALL_GEAR_OFFSETS.get(((IRotate) blockState.getBlock()).getRotationAxis(blockState));
+		return FACE_OFFSETS;
 	}
 
 	public static boolean isFrozen() {
@@ -55,6 +55,28 @@ public abstract class KineticBlock extends Block implements IRotate {
 	@Override
 	public abstract TileEntity createTileEntity(BlockState state, IBlockReader world);
 
+	@Override
+	public void onBlockAdded(BlockState state, World worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+		RotationPropagator.invalidateConnections(worldIn, pos);
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public void onReplaced(BlockState state, World worldIn, BlockPos pos, BlockState newState, boolean isMoving) {
+		RotationPropagator.invalidateConnections(worldIn, pos);
+		super.onReplaced(state, worldIn, pos, newState, isMoving);
+	}
+
+	@Override
+	public void neighborChanged(BlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos,
+			boolean isMoving) {
+		if (worldIn.isRemote)
+			return;
+		TileEntity tileEntity = worldIn.getTileEntity(pos);
+		if (tileEntity instanceof KineticTileEntity)
+			((KineticTileEntity) tileEntity).invalidateConnections();
+	}
+
 	@SuppressWarnings("deprecation")
 	@Override
 	public void updateNeighbors(BlockState stateIn, IWorld worldIn, BlockPos pos, int flags) {
@@ -62,7 +84,7 @@ public abstract class KineticBlock extends Block implements IRotate {
 		KineticTileEntity tileEntity = (KineticTileEntity) worldIn.getTileEntity(pos);
 		if (tileEntity == null)
 			return;
-		RotationPropagator.handleAdded(worldIn.getWorld(), pos, tileEntity);
+		tileEntity.attachKinetics();
 	}
 
 	@Override
@@ -3,7 +3,9 @@ package com.simibubi.create.modules.contraptions.base;
 import java.util.Optional;
 import java.util.Random;
 
+import com.simibubi.create.Create;
 import com.simibubi.create.foundation.block.SyncedTileEntity;
+import com.simibubi.create.modules.contraptions.KineticConnections;
 import com.simibubi.create.modules.contraptions.RotationPropagator;
 
 import net.minecraft.nbt.CompoundNBT;
@@ -18,12 +20,15 @@ public abstract class KineticTileEntity extends SyncedTileEntity {
 	protected float speed;
 	protected float force;
 	protected Optional<BlockPos> source;
+	protected Long networkID;
+	protected KineticConnections connections;
 
 	public KineticTileEntity(TileEntityType<?> typeIn) {
 		super(typeIn);
 		speed = 0;
 		force = 0;
 		source = Optional.empty();
+		networkID = null;
 	}
 	
 	@Override
@@ -34,14 +39,30 @@ public abstract class KineticTileEntity extends SyncedTileEntity {
 	public void onSpeedChanged() {
 	}
 	
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		if (world.isRemote)
+			return;
+		Create.kineticNetworkHandler.onLoaded(this);
+	}
+
+	@Override
+	public void onChunkUnloaded() {
+		super.onChunkUnloaded();
+		if (world.isRemote)
+			return;
+		Create.kineticNetworkHandler.onUnloaded(this);
+	}
+
 	@Override
 	public void remove() {
 		if (world.isRemote) {
 			super.remove();
 			return;
 		}
-		RotationPropagator.handleRemoved(getWorld(), getPos(), this);
 		super.remove();
+		detachKinetics();
 	}
 
 	@Override
@@ -51,6 +72,8 @@ public abstract class KineticTileEntity extends SyncedTileEntity {
 
 		if (hasSource())
 			compound.put("Source", NBTUtil.writeBlockPos(getSource()));
+		if (hasNetwork())
+			compound.putLong("Network", getNetworkID());
 
 		return super.write(compound);
 	}
@@ -65,6 +88,7 @@ public abstract class KineticTileEntity extends SyncedTileEntity {
 			CompoundNBT tagSource = compound.getCompound("Source");
 			setSource(NBTUtil.readBlockPos(tagSource));
 		}
+		setNetworkID(compound.contains("Network") ? compound.getLong("Network") : null);
 
 		super.read(compound);
 	}
@@ -115,6 +139,39 @@ public abstract class KineticTileEntity extends SyncedTileEntity {
 		this.source = Optional.ofNullable(source);
 	}
 
+	public boolean hasNetwork() {
+		return networkID != null;
+	}
+
+	public Long getNetworkID() {
+		return networkID;
+	}
+
+	public void setNetworkID(Long networkID) {
+		this.networkID = networkID;
+	}
+
+	public KineticConnections getConnections() {
+		return connections;
+	}
+
+	public void setConnections(KineticConnections connections) {
+		this.connections = connections;
+	}
+
+	public void invalidateConnections() {
+		connections = null;
+	}
+
+	/**
+	 * Applies a kinetic update sent to the client. Unlike a full data sync,
+	 * only speed and source are transferred.
+	 */
+	public void readKineticUpdate(float speed, BlockPos source) {
+		setSpeed(speed);
+		setSource(source);
+	}
+
 	public void removeSource() {
 		this.source = Optional.empty();
 		setSpeed(0);
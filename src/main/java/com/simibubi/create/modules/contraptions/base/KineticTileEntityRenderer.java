@@ -4,11 +4,13 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 
 import org.lwjgl.opengl.GL11;
 
 import com.simibubi.create.AllBlocks;
+import com.simibubi.create.CreateClientConfig;
 import com.simibubi.create.foundation.utility.BufferManipulator;
 
 import net.minecraft.block.BlockState;
@@ -21,6 +23,7 @@ import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.model.animation.Animation;
 import net.minecraftforge.client.model.animation.TileEntityRendererFast;
@@ -31,9 +34,20 @@ import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 public class KineticTileEntityRenderer extends TileEntityRendererFast<KineticTileEntity> {
 
 	protected static Map<BlockState, BufferManipulator> cachedBuffers;
+	protected static long cachedRotationBytes;
+	protected static Map<KineticTileEntity, SampledLight> sampledLight = new WeakHashMap<>();
+
+	// Light of a distant tile, refreshed only every few ticks
+	protected static class SampledLight {
+		int packedLight;
+		long time;
+	}
 
 	protected class BlockModelSpinner extends BufferManipulator {
 
+		// Vertex positions by axis and angle bucket, already rotated
+		protected float[][][] rotatedPositions;
+
 		public BlockModelSpinner(ByteBuffer original) {
 			super(original);
 		}
@@ -42,6 +56,17 @@ public class KineticTileEntityRenderer extends TileEntityRendererFast<KineticTil
 				int packedLightCoords) {
 			original.rewind();
 			mutable.rewind();
+			float[] rotated = getRotatedPositions(angle, axis);
+
+			if (rotated != null) {
+				for (int vertex = 0; vertex < vertexCount(original); vertex++) {
+					putPos(mutable, vertex, rotated[vertex * 3] + xIn, rotated[vertex * 3 + 1] + yIn,
+							rotated[vertex * 3 + 2] + zIn);
+					putLight(mutable, vertex, packedLightCoords);
+				}
+				return mutable;
+			}
+
 			float cos = MathHelper.cos(angle);
 			float sin = MathHelper.sin(angle);
 			float x, y, z = 0;
@@ -58,6 +83,73 @@ public class KineticTileEntityRenderer extends TileEntityRendererFast<KineticTil
 
 			return mutable;
 		}
+
+		/**
+		 * Looks up the model rotated to the closest of a fixed amount of angles.
+		 * Returns null if caching is disabled or its memory is used up, the model is
+		 * then rotated exactly instead.
+		 */
+		protected float[] getRotatedPositions(float angle, Axis axis) {
+			int buckets = CreateClientConfig.instance.rotationCacheBuckets.get();
+			if (buckets == 0)
+				return null;
+			if (rotatedPositions == null || rotatedPositions[0].length != buckets) {
+				// The amount of buckets changed, give back what the old ones took up
+				if (rotatedPositions != null)
+					for (float[][] byBucket : rotatedPositions)
+						for (float[] positions : byBucket)
+							if (positions != null)
+								cachedRotationBytes -= positions.length * 4;
+				rotatedPositions = new float[Axis.values().length][buckets][];
+			}
+
+			float fullCircle = 2 * (float) Math.PI;
+			int bucket = Math.floorMod(Math.round(angle / fullCircle * buckets), buckets);
+			float[] positions = rotatedPositions[axis.ordinal()][bucket];
+			if (positions != null)
+				return positions;
+
+			int vertexCount = vertexCount(original);
+			long size = vertexCount * 3 * 4;
+			long cap = CreateClientConfig.instance.rotationCacheMemory.get() * 1024L * 1024L;
+			if (cachedRotationBytes + size > cap)
+				return null;
+
+			float bucketAngle = bucket * fullCircle / buckets;
+			float cos = MathHelper.cos(bucketAngle);
+			float sin = MathHelper.sin(bucketAngle);
+			float x, y, z = 0;
+			positions = new float[vertexCount * 3];
+
+			for (int vertex = 0; vertex < vertexCount; vertex++) {
+				x = getX(original, vertex) - .5f;
+				y = getY(original, vertex) - .5f;
+				z = getZ(original, vertex) - .5f;
+				positions[vertex * 3] = rotateX(x, y, z, sin, cos, axis) + .5f;
+				positions[vertex * 3 + 1] = rotateY(x, y, z, sin, cos, axis) + .5f;
+				positions[vertex * 3 + 2] = rotateZ(x, y, z, sin, cos, axis) + .5f;
+			}
+
+			rotatedPositions[axis.ordinal()][bucket] = positions;
+			cachedRotationBytes += size;
+			return positions;
+		}
+	}
+
+	/**
+	 * Always rotates to the exact angle, for parts which have to line up with
+	 * something else rendered alongside them.
+	 */
+	protected class ExactBlockModelSpinner extends BlockModelSpinner {
+
+		public ExactBlockModelSpinner(ByteBuffer original) {
+			super(original);
+		}
+
+		@Override
+		protected float[] getRotatedPositions(float angle, Axis axis) {
+			return null;
+		}
 	}
 
 	public KineticTileEntityRenderer() {
@@ -73,20 +165,72 @@ public class KineticTileEntityRenderer extends TileEntityRendererFast<KineticTil
 
 		final BlockPos pos = te.getPos();
 		Axis axis = ((IRotate) te.getBlockState().getBlock()).getRotationAxis(te.getBlockState());
-		float time = Animation.getWorldTime(Minecraft.getInstance().world, partialTicks);
+		float time = getRenderTime(x, y, z, partialTicks);
 		float offset = getRotationOffsetForPosition(te, pos, axis);
 		float angle = (float) (((time * te.getSpeed() + offset) % 360) / 180 * (float) Math.PI);
 
-		renderFromCache(buffer, state, (float) x, (float) y, (float) z, pos, axis, angle);
+		renderFromCache(buffer, state, (float) x, (float) y, (float) z, axis, angle, getPackedLight(te, x, y, z));
 	}
 
 	protected void renderFromCache(BufferBuilder buffer, BlockState state, float x, float y, float z, BlockPos pos,
 			Axis axis, float angle) {
 		int packedLightmapCoords = state.getPackedLightmapCoords(getWorld(), pos);
+		renderFromCache(buffer, state, x, y, z, axis, angle, packedLightmapCoords);
+	}
+
+	protected void renderFromCache(BufferBuilder buffer, BlockState state, float x, float y, float z, Axis axis,
+			float angle, int packedLightmapCoords) {
 		buffer.putBulkData(((BlockModelSpinner) cachedBuffers.get(state)).getTransformed(x, y, z, angle, axis,
 				packedLightmapCoords));
 	}
 
+	/**
+	 * The animation time for a tile rendered at the given offset from the camera.
+	 * Distant tiles only advance every few ticks, or not at all beyond the freeze
+	 * distance.
+	 */
+	protected float getRenderTime(double x, double y, double z, float partialTicks) {
+		World world = Minecraft.getInstance().world;
+		CreateClientConfig config = CreateClientConfig.instance;
+		double distanceSq = x * x + y * y + z * z;
+
+		int freezeDistance = config.lodFreezeDistance.get();
+		if (freezeDistance > 0 && distanceSq > freezeDistance * freezeDistance)
+			return 0;
+		int lodDistance = config.lodDistance.get();
+		if (lodDistance == 0 || distanceSq <= lodDistance * lodDistance)
+			return Animation.getWorldTime(world, partialTicks);
+
+		int interval = config.lodUpdateInterval.get();
+		return world.getGameTime() / interval * interval / 20f;
+	}
+
+	/**
+	 * The light at the given tile, sampled again only every few ticks for tiles
+	 * beyond the reduced detail distance.
+	 */
+	protected int getPackedLight(KineticTileEntity te, double x, double y, double z) {
+		World world = getWorld();
+		CreateClientConfig config = CreateClientConfig.instance;
+		int lodDistance = config.lodDistance.get();
+		if (lodDistance == 0 || x * x + y * y + z * z <= lodDistance * lodDistance)
+			return te.getBlockState().getPackedLightmapCoords(world, te.getPos());
+
+		long time = world.getGameTime();
+		SampledLight light = sampledLight.get(te);
+		if (light == null) {
+			light = new SampledLight();
+			light.time = Long.MIN_VALUE;
+			sampledLight.put(te, light);
+		}
+		long age = time - light.time;
+		if (light.time == Long.MIN_VALUE || age < 0 || age >= config.lodUpdateInterval.get()) {
+			light.packedLight = te.getBlockState().getPackedLightmapCoords(world, te.getPos());
+			light.time = time;
+		}
+		return light.packedLight;
+	}
+
 	protected void cacheIfMissing(final BlockState state, Function<ByteBuffer, BufferManipulator> factory) {
 		if (!cachedBuffers.containsKey(state)) {
 			BlockRendererDispatcher dispatcher = Minecraft.getInstance().getBlockRendererDispatcher();
@@ -122,6 +266,7 @@ public class KineticTileEntityRenderer extends TileEntityRendererFast<KineticTil
 	public static void invalidateCache() {
 		if (cachedBuffers != null)
 			cachedBuffers.clear();
+		cachedRotationBytes = 0;
 	}
 	
 }
@@ -65,6 +65,7 @@ public class WaterWheelBlock extends HorizontalKineticBlock {
 
 	@Override
 	public void onBlockAdded(BlockState state, World worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+		super.onBlockAdded(state, worldIn, pos, oldState, isMoving);
 		for (Direction d : Direction.values())
 			updateFlowAt(state, worldIn, pos, d);
 		updateWheelSpeed(worldIn, pos);
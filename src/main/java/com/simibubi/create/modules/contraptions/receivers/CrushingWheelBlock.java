@@ -62,13 +62,12 @@ public class CrushingWheelBlock extends RotatedPillarKineticBlock {
 				worldIn.setBlockState(pos.offset(d), Blocks.AIR.getDefaultState());
 		}
 
-		if (state.hasTileEntity() && state.getBlock() != newState.getBlock()) {
-			worldIn.removeTileEntity(pos);
-		}
+		super.onReplaced(state, worldIn, pos, newState, isMoving);
 	}
 
 	@Override
 	public void onBlockAdded(BlockState state, World worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+		super.onBlockAdded(state, worldIn, pos, oldState, isMoving);
 		for (Direction d : Direction.values())
 			updateControllers(state, worldIn, pos, d);
 	}
@@ -25,12 +25,14 @@ public class EncasedFanBlock extends EncasedShaftBlock implements IWithTileEntit
 
 	@Override
 	public void onBlockAdded(BlockState state, World worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+		super.onBlockAdded(state, worldIn, pos, oldState, isMoving);
 		notifyFanTile(worldIn, pos);
 	}
 
 	@Override
 	public void neighborChanged(BlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos,
 			boolean isMoving) {
+		super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
 		notifyFanTile(worldIn, pos);
 
 		if (worldIn.isRemote || state.get(AXIS).isHorizontal())
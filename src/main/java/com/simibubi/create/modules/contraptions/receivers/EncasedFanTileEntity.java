@@ -5,6 +5,7 @@ import static net.minecraft.state.properties.BlockStateProperties.AXIS;
 import static net.minecraft.util.Direction.AxisDirection.NEGATIVE;
 import static net.minecraft.util.Direction.AxisDirection.POSITIVE;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.simibubi.create.AllBlockTags;
@@ -14,6 +15,8 @@ import com.simibubi.create.CreateClient;
 import com.simibubi.create.CreateConfig;
 import com.simibubi.create.foundation.utility.VecHelper;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltInventory;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity;
 import com.simibubi.create.modules.logistics.InWorldProcessing;
 import com.simibubi.create.modules.logistics.InWorldProcessing.Type;
 
@@ -25,6 +28,7 @@ import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.particles.ParticleTypes;
 import net.minecraft.tileentity.ITickableTileEntity;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.Direction;
 import net.minecraft.util.SoundCategory;
@@ -197,6 +201,8 @@ public class EncasedFanTileEntity extends KineticTileEntity implements ITickable
 			moveEntity(entity, false);
 		}
 
+		processBelts();
+
 		if (findFrontBlock) {
 			findFrontBlock = false;
 			updateFrontBlock();
@@ -219,17 +225,7 @@ public class EncasedFanTileEntity extends KineticTileEntity implements ITickable
 			return;
 
 		if (entity instanceof ItemEntity) {
-			if (world.rand.nextInt(4) == 0) {
-				Type processingType = getProcessingType();
-				if (processingType == Type.BLASTING)
-					world.addParticle(ParticleTypes.LARGE_SMOKE, entity.posX, entity.posY + .25f, entity.posZ, 0,
-							1 / 16f, 0);
-				if (processingType == Type.SMOKING)
-					world.addParticle(ParticleTypes.CLOUD, entity.posX, entity.posY + .25f, entity.posZ, 0, 1 / 16f, 0);
-				if (processingType == Type.SPLASHING)
-					world.addParticle(ParticleTypes.BUBBLE_POP, entity.posX + (world.rand.nextFloat() - .5f) * .5f,
-							entity.posY + .25f, entity.posZ + (world.rand.nextFloat() - .5f) * .5f, 0, 1 / 16f, 0);
-			}
+			spawnProcessingParticles(entity.getPositionVec());
 
 			if (world.isRemote)
 				return;
@@ -257,6 +253,61 @@ public class EncasedFanTileEntity extends KineticTileEntity implements ITickable
 		}
 	}
 
+	/**
+	 * Items carried by belts are not entities, so the air current looks for belts
+	 * in its way and processes their items like it would items lying around.
+	 * Lifting them off the belt turns them back into entities.
+	 */
+	protected void processBelts() {
+		Direction flow = getAirFlow();
+		for (int distance = 1; distance <= Math.ceil(pushDistance); distance++) {
+			TileEntity te = world.getTileEntity(pos.offset(flow, distance));
+			if (!(te instanceof BeltTileEntity))
+				continue;
+			BeltTileEntity controller = ((BeltTileEntity) te).getControllerTE();
+			if (controller == null || controller.getInventory().isEmpty())
+				continue;
+
+			BeltInventory inventory = controller.getInventory();
+			int segment = ((BeltTileEntity) te).getSegment();
+			inventory.processItemsBetween(segment, segment + 1, transported -> {
+				Vec3d position = inventory.getVectorForOffset(transported.beltPosition);
+				if (!frontBB.contains(position))
+					return null;
+
+				if (flow == Direction.UP) {
+					if (world.isRemote)
+						return null;
+					ItemEntity entity = new ItemEntity(world, position.x, position.y, position.z, transported.stack);
+					entity.setMotion(0, 1 / 8f, 0);
+					world.addEntity(entity);
+					return new ArrayList<>();
+				}
+
+				if (InWorldProcessing.isFrozen())
+					return null;
+				spawnProcessingParticles(position);
+				if (world.isRemote || !canProcess()
+						|| !InWorldProcessing.canProcess(transported, getProcessingType(), world))
+					return null;
+				return InWorldProcessing.applyProcessing(transported, world, getProcessingType());
+			});
+		}
+	}
+
+	protected void spawnProcessingParticles(Vec3d position) {
+		if (world.rand.nextInt(4) != 0)
+			return;
+		Type processingType = getProcessingType();
+		if (processingType == Type.BLASTING)
+			world.addParticle(ParticleTypes.LARGE_SMOKE, position.x, position.y + .25f, position.z, 0, 1 / 16f, 0);
+		if (processingType == Type.SMOKING)
+			world.addParticle(ParticleTypes.CLOUD, position.x, position.y + .25f, position.z, 0, 1 / 16f, 0);
+		if (processingType == Type.SPLASHING)
+			world.addParticle(ParticleTypes.BUBBLE_POP, position.x + (world.rand.nextFloat() - .5f) * .5f,
+					position.y + .25f, position.z + (world.rand.nextFloat() - .5f) * .5f, 0, 1 / 16f, 0);
+	}
+
 	protected boolean canProcess() {
 		return getProcessingType() != null;
 	}
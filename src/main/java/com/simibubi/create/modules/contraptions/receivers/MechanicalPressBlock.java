@@ -50,6 +50,7 @@ public class MechanicalPressBlock extends HorizontalKineticBlock
 	@Override
 	public void neighborChanged(BlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos,
 			boolean isMoving) {
+		super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
 		if (worldIn.isRemote)
 			return;
 		MechanicalPressTileEntity te = (MechanicalPressTileEntity) worldIn.getTileEntity(pos);
@@ -95,6 +96,7 @@ public class MechanicalPressBlock extends HorizontalKineticBlock
 
 	@Override
 	public void onBlockAdded(BlockState state, World worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+		super.onBlockAdded(state, worldIn, pos, oldState, isMoving);
 		onAttachmentPlaced(worldIn, pos, state);
 	}
 
@@ -106,9 +108,7 @@ public class MechanicalPressBlock extends HorizontalKineticBlock
 	@Override
 	public void onReplaced(BlockState state, World worldIn, BlockPos pos, BlockState newState, boolean isMoving) {
 		onAttachmentRemoved(worldIn, pos, state);
-		if (state.hasTileEntity() && state.getBlock() != newState.getBlock()) {
-			worldIn.removeTileEntity(pos);
-		}
+		super.onReplaced(state, worldIn, pos, newState, isMoving);
 	}
 
 	@Override
@@ -10,7 +10,6 @@ import com.simibubi.create.modules.contraptions.base.KineticTileEntityRenderer;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.state.properties.BlockStateProperties;
-import net.minecraft.util.math.BlockPos;
 
 public class MechanicalPressTileEntityRenderer extends KineticTileEntityRenderer {
 
@@ -42,9 +41,7 @@ public class MechanicalPressTileEntityRenderer extends KineticTileEntityRenderer
 		final BlockState state = getRenderedHeadBlockState(te);
 		cacheIfMissing(state, HeadTranslator::new);
 
-		final BlockPos pos = te.getPos();
-
-		int packedLightmapCoords = state.getPackedLightmapCoords(getWorld(), pos);
+		int packedLightmapCoords = getPackedLight(te, x, y, z);
 		buffer.putBulkData(((HeadTranslator) cachedBuffers.get(state)).getTransformed((float) x, (float) y, (float) z,
 				((MechanicalPressTileEntity) te).getRenderedHeadOffset(partialTicks), packedLightmapCoords));
 	}
@@ -0,0 +1,133 @@
+package com.simibubi.create.modules.contraptions.receivers.constructs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+import net.minecraft.state.properties.BlockStateProperties;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3i;
+
+/**
+ * Moving pistons of one world, hashed into cells by the space their construct
+ * can sweep through while running. A piston only has to be tested against the
+ * pistons sharing a cell with it. The swept space does not change while a
+ * piston runs, so pistons are only hashed when they start and stop.
+ */
+public class ConstructCollisionIndex {
+
+	public static final int CELL_BITS = 4;
+
+	protected Map<Long, List<MechanicalPistonTileEntity>> cells;
+	protected Map<MechanicalPistonTileEntity, Entry> entries;
+
+	protected static class Entry {
+		AxisAlignedBB bounds;
+		List<Long> cells;
+
+		public Entry(AxisAlignedBB bounds) {
+			this.bounds = bounds;
+			cells = new ArrayList<>();
+		}
+	}
+
+	public ConstructCollisionIndex() {
+		cells = new HashMap<>();
+		entries = new HashMap<>();
+	}
+
+	public void add(MechanicalPistonTileEntity te) {
+		remove(te);
+		AxisAlignedBB bounds = getSweptBounds(te);
+		if (bounds == null)
+			return;
+
+		Entry entry = new Entry(bounds);
+		forEachCell(bounds, cell -> {
+			cells.computeIfAbsent(cell, c -> new ArrayList<>(1)).add(te);
+			entry.cells.add(cell);
+		});
+		entries.put(te, entry);
+	}
+
+	public void remove(MechanicalPistonTileEntity te) {
+		Entry entry = entries.remove(te);
+		if (entry == null)
+			return;
+		for (Long cell : entry.cells) {
+			List<MechanicalPistonTileEntity> pistons = cells.get(cell);
+			pistons.remove(te);
+			if (pistons.isEmpty())
+				cells.remove(cell);
+		}
+	}
+
+	/**
+	 * Other moving pistons whose swept space overlaps that of the given piston.
+	 * The piston does not have to be moving itself yet.
+	 */
+	public Collection<MechanicalPistonTileEntity> getNearby(MechanicalPistonTileEntity te) {
+		Set<MechanicalPistonTileEntity> nearby = new HashSet<>();
+		Entry entry = entries.get(te);
+		AxisAlignedBB bounds = entry != null ? entry.bounds : getSweptBounds(te);
+		if (bounds == null)
+			return nearby;
+
+		forEachCell(bounds, cell -> {
+			List<MechanicalPistonTileEntity> pistons = cells.get(cell);
+			if (pistons == null)
+				return;
+			for (MechanicalPistonTileEntity other : pistons) {
+				if (other == te || nearby.contains(other))
+					continue;
+				if (entries.get(other).bounds.intersects(bounds))
+					nearby.add(other);
+			}
+		});
+		return nearby;
+	}
+
+	/**
+	 * Space taken by the construct of a piston at any extension, with an extra
+	 * block around it for colliders moving into the next block.
+	 */
+	protected static AxisAlignedBB getSweptBounds(MechanicalPistonTileEntity te) {
+		TranslationConstruct construct = te.movingConstruct;
+		if (construct == null)
+			return null;
+
+		AxisAlignedBB bounds = construct.collisionBoxFront;
+		if (bounds == null)
+			bounds = construct.collisionBoxBack;
+		else if (construct.collisionBoxBack != null)
+			bounds = bounds.union(construct.collisionBoxBack);
+		if (bounds == null)
+			return null;
+
+		Vec3i direction = te.getBlockState().get(BlockStateProperties.FACING).getDirectionVec();
+		int length = construct.extensionLength;
+		return bounds.expand(direction.getX() * length, direction.getY() * length, direction.getZ() * length)
+				.grow(1);
+	}
+
+	protected static void forEachCell(AxisAlignedBB bounds, LongConsumer action) {
+		int minX = MathHelper.floor(bounds.minX) >> CELL_BITS;
+		int minY = MathHelper.floor(bounds.minY) >> CELL_BITS;
+		int minZ = MathHelper.floor(bounds.minZ) >> CELL_BITS;
+		int maxX = MathHelper.floor(bounds.maxX) >> CELL_BITS;
+		int maxY = MathHelper.floor(bounds.maxY) >> CELL_BITS;
+		int maxZ = MathHelper.floor(bounds.maxZ) >> CELL_BITS;
+		for (int x = minX; x <= maxX; x++)
+			for (int y = minY; y <= maxY; y++)
+				for (int z = minZ; z <= maxZ; z++)
+					action.accept(BlockPos.pack(x, y, z));
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.simibubi.create.modules.contraptions.receivers.constructs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.NBTUtil;
+import net.minecraft.util.BitArray;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.gen.feature.template.Template.BlockInfo;
+
+/**
+ * Writes the blocks of a construct the way chunks store their sections: every
+ * distinct state once in a palette, positions packed into longs and the state
+ * of each block as an index into the palette, using as few bits as the palette
+ * allows. Constructs saved before the palette existed are still read.
+ */
+public class ConstructNBT {
+
+	public static final int VERSION = 1;
+
+	public static void writeBlocks(CompoundNBT nbt, Collection<BlockInfo> blocks) {
+		List<BlockState> palette = new ArrayList<>();
+		Map<BlockState, Integer> paletteIndices = new HashMap<>();
+		long[] positions = new long[blocks.size()];
+		int[] stateIndices = new int[blocks.size()];
+		ListNBT data = new ListNBT();
+
+		int i = 0;
+		for (BlockInfo block : blocks) {
+			positions[i] = block.pos.toLong();
+			stateIndices[i] = paletteIndices.computeIfAbsent(block.state, state -> {
+				palette.add(state);
+				return palette.size() - 1;
+			});
+			if (block.nbt != null) {
+				CompoundNBT c = new CompoundNBT();
+				c.putInt("Index", i);
+				c.put("Data", block.nbt);
+				data.add(c);
+			}
+			i++;
+		}
+
+		BitArray states = new BitArray(getBitsPerState(palette.size()), blocks.size());
+		for (i = 0; i < stateIndices.length; i++)
+			states.setAt(i, stateIndices[i]);
+
+		ListNBT paletteNBT = new ListNBT();
+		for (BlockState state : palette)
+			paletteNBT.add(NBTUtil.writeBlockState(state));
+
+		nbt.putInt("Version", VERSION);
+		nbt.put("Palette", paletteNBT);
+		nbt.putLongArray("Positions", positions);
+		nbt.putLongArray("States", states.getBackingLongArray());
+		if (!data.isEmpty())
+			nbt.put("Data", data);
+	}
+
+	public static List<BlockInfo> readBlocks(CompoundNBT nbt) {
+		if (nbt.getInt("Version") < VERSION)
+			return readLegacyBlocks(nbt);
+
+		ListNBT paletteNBT = nbt.getList("Palette", 10);
+		BlockState[] palette = new BlockState[paletteNBT.size()];
+		for (int i = 0; i < palette.length; i++)
+			palette[i] = NBTUtil.readBlockState(paletteNBT.getCompound(i));
+
+		long[] positions = nbt.getLongArray("Positions");
+		BitArray states = new BitArray(getBitsPerState(palette.length), positions.length,
+				nbt.getLongArray("States"));
+		CompoundNBT[] data = new CompoundNBT[positions.length];
+		for (INBT c : nbt.getList("Data", 10)) {
+			CompoundNBT comp = (CompoundNBT) c;
+			data[comp.getInt("Index")] = comp.getCompound("Data");
+		}
+
+		List<BlockInfo> blocks = new ArrayList<>(positions.length);
+		for (int i = 0; i < positions.length; i++)
+			blocks.add(new BlockInfo(BlockPos.fromLong(positions[i]), palette[states.getAt(i)], data[i]));
+		return blocks;
+	}
+
+	private static List<BlockInfo> readLegacyBlocks(CompoundNBT nbt) {
+		List<BlockInfo> blocks = new ArrayList<>();
+		nbt.getList("Blocks", 10).forEach(c -> {
+			CompoundNBT comp = (CompoundNBT) c;
+			blocks.add(new BlockInfo(NBTUtil.readBlockPos(comp.getCompound("Pos")),
+					NBTUtil.readBlockState(comp.getCompound("Block")),
+					comp.contains("Data") ? comp.getCompound("Data") : null));
+		});
+		return blocks;
+	}
+
+	private static int getBitsPerState(int paletteSize) {
+		return Math.max(1, MathHelper.log2DeriveValue(paletteSize));
+	}
+
+}
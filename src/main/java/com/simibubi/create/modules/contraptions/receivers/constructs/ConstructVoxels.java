@@ -0,0 +1,160 @@
+package com.simibubi.create.modules.contraptions.receivers.constructs;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+
+/**
+ * Positions taken by the blocks of a construct, as a bitset over the box around
+ * them. Bits run along X first, then Z, then Y. The box keeps an empty layer on
+ * every side, so shifting the bits by the stride of a direction lines up every
+ * block with its neighbour without wrapping into another row.
+ */
+public class ConstructVoxels {
+
+	protected final int minX, minY, minZ;
+	protected final int sizeX, sizeY, sizeZ;
+	protected final long[] bits;
+
+	protected ConstructVoxels(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ, long[] bits) {
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.sizeX = sizeX;
+		this.sizeY = sizeY;
+		this.sizeZ = sizeZ;
+		this.bits = bits;
+	}
+
+	public static ConstructVoxels of(Collection<BlockPos> positions) {
+		if (positions.isEmpty())
+			return new ConstructVoxels(0, 0, 0, 1, 1, 1, new long[1]);
+
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+		for (BlockPos pos : positions) {
+			minX = Math.min(minX, pos.getX());
+			minY = Math.min(minY, pos.getY());
+			minZ = Math.min(minZ, pos.getZ());
+			maxX = Math.max(maxX, pos.getX());
+			maxY = Math.max(maxY, pos.getY());
+			maxZ = Math.max(maxZ, pos.getZ());
+		}
+
+		int sizeX = maxX - minX + 3;
+		int sizeY = maxY - minY + 3;
+		int sizeZ = maxZ - minZ + 3;
+		ConstructVoxels voxels = new ConstructVoxels(minX - 1, minY - 1, minZ - 1, sizeX, sizeY, sizeZ,
+				new long[(sizeX * sizeY * sizeZ + 63) >> 6]);
+		for (BlockPos pos : positions) {
+			int index = voxels.getIndex(pos.getX() - voxels.minX, pos.getY() - voxels.minY, pos.getZ() - voxels.minZ);
+			voxels.bits[index >> 6] |= 1L << index;
+		}
+		return voxels;
+	}
+
+	public boolean contains(int x, int y, int z) {
+		x -= minX;
+		y -= minY;
+		z -= minZ;
+		if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ)
+			return false;
+		int index = getIndex(x, y, z);
+		return (bits[index >> 6] & 1L << index) != 0;
+	}
+
+	public boolean contains(BlockPos pos) {
+		return contains(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	public boolean isEmpty() {
+		for (long word : bits)
+			if (word != 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * The blocks whose neighbour in the given direction is not part of the
+	 * construct, these are the ones running into things when it moves that way.
+	 */
+	public ConstructVoxels getFaces(Direction direction) {
+		int stride = direction.getAxis().getCoordinate(1, sizeX * sizeZ, sizeX)
+				* direction.getAxisDirection().getOffset();
+		long[] faces = new long[bits.length];
+		for (int word = 0; word < bits.length; word++)
+			faces[word] = bits[word] & ~getBits((word << 6) + stride);
+		return new ConstructVoxels(minX, minY, minZ, sizeX, sizeY, sizeZ, faces);
+	}
+
+	/**
+	 * Whether any block, moved by the given offset, takes the same position as a
+	 * block of the other construct. Compares whole rows of both at a time.
+	 */
+	public boolean intersects(ConstructVoxels other, int offsetX, int offsetY, int offsetZ) {
+		int fromX = Math.max(minX + offsetX, other.minX);
+		int fromY = Math.max(minY + offsetY, other.minY);
+		int fromZ = Math.max(minZ + offsetZ, other.minZ);
+		int toX = Math.min(minX + offsetX + sizeX, other.minX + other.sizeX);
+		int toY = Math.min(minY + offsetY + sizeY, other.minY + other.sizeY);
+		int toZ = Math.min(minZ + offsetZ + sizeZ, other.minZ + other.sizeZ);
+		if (fromX >= toX || fromY >= toY || fromZ >= toZ)
+			return false;
+
+		int length = toX - fromX;
+		for (int y = fromY; y < toY; y++) {
+			for (int z = fromZ; z < toZ; z++) {
+				int row = getIndex(fromX - offsetX - minX, y - offsetY - minY, z - offsetZ - minZ);
+				int otherRow = other.getIndex(fromX - other.minX, y - other.minY, z - other.minZ);
+				for (int x = 0; x < length; x += 64) {
+					int count = Math.min(64, length - x);
+					long mask = count == 64 ? -1L : (1L << count) - 1;
+					if ((getBits(row + x) & other.getBits(otherRow + x) & mask) != 0)
+						return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tests the position of every block until one matches. The position passed on
+	 * is reused, copy it to keep it.
+	 */
+	public boolean anyMatch(Predicate<BlockPos> test) {
+		MutableBlockPos pos = new MutableBlockPos();
+		for (int word = 0; word < bits.length; word++) {
+			long value = bits[word];
+			while (value != 0) {
+				int index = (word << 6) + Long.numberOfTrailingZeros(value);
+				value &= value - 1;
+				int row = index / sizeX;
+				pos.setPos(minX + index % sizeX, minY + row / sizeZ, minZ + row % sizeZ);
+				if (test.test(pos))
+					return true;
+			}
+		}
+		return false;
+	}
+
+	protected int getIndex(int x, int y, int z) {
+		return (y * sizeZ + z) * sizeX + x;
+	}
+
+	/**
+	 * The 64 bits starting at the given index, bits outside of the box are empty.
+	 */
+	protected long getBits(int start) {
+		int word = Math.floorDiv(start, 64);
+		int bit = Math.floorMod(start, 64);
+		long low = word >= 0 && word < bits.length ? bits[word] >>> bit : 0;
+		if (bit == 0)
+			return low;
+		long high = word + 1 >= 0 && word + 1 < bits.length ? bits[word + 1] << (64 - bit) : 0;
+		return low | high;
+	}
+
+}
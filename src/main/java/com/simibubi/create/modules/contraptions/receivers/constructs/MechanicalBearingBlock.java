@@ -27,6 +27,7 @@ public class MechanicalBearingBlock extends DirectionalKineticBlock
 	@Override
 	public void neighborChanged(BlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos,
 			boolean isMoving) {
+		super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
 		if (worldIn.isRemote)
 			return;
 
@@ -1,10 +1,10 @@
 package com.simibubi.create.modules.contraptions.receivers.constructs;
 
 import com.simibubi.create.AllTileEntities;
+import com.simibubi.create.foundation.utility.BulkBlockPlacer;
 import com.simibubi.create.modules.contraptions.RotationPropagator;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
 
-import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.state.properties.BlockStateProperties;
@@ -25,6 +25,8 @@ public class MechanicalBearingTileEntity extends KineticTileEntity implements IT
 	protected boolean running;
 	protected boolean assembleNextTick;
 	protected boolean isWindmill;
+	protected int constructId;
+	protected boolean sendConstruct;
 
 	public MechanicalBearingTileEntity() {
 		super(AllTileEntities.MECHANICAL_BEARING.type);
@@ -92,19 +94,36 @@ public class MechanicalBearingTileEntity extends KineticTileEntity implements IT
 		tag.putBoolean("Running", running);
 		tag.putBoolean("Windmill", isWindmill);
 		tag.putFloat("Angle", angle);
+		tag.putInt("ConstructId", constructId);
 		if (running && !RotationConstruct.isFrozen())
 			tag.put("Construct", movingConstruct.writeNBT());
 
 		return super.write(tag);
 	}
 
+	@Override
+	public CompoundNBT writeToClient(CompoundNBT tag) {
+		super.writeToClient(tag);
+		// Clients already got the construct on assembly or when they started tracking
+		if (!sendConstruct)
+			tag.remove("Construct");
+		sendConstruct = false;
+		return tag;
+	}
+
 	@Override
 	public void read(CompoundNBT tag) {
 		running = tag.getBoolean("Running");
 		isWindmill = tag.getBoolean("Windmill");
 		angle = tag.getFloat("Angle");
-		if (running && !RotationConstruct.isFrozen())
-			movingConstruct = RotationConstruct.fromNBT(tag.getCompound("Construct"));
+		int id = tag.getInt("ConstructId");
+		if (running && !RotationConstruct.isFrozen()) {
+			if (tag.contains("Construct"))
+				movingConstruct = RotationConstruct.fromNBT(tag.getCompound("Construct"));
+			else if (id != constructId)
+				movingConstruct = null;
+		}
+		constructId = id;
 
 		super.read(tag);
 	}
@@ -138,11 +157,15 @@ public class MechanicalBearingTileEntity extends KineticTileEntity implements IT
 		// Run
 		running = true;
 		angle = 0;
+		constructId++;
+		sendConstruct = true;
 		sendData();
 
+		BulkBlockPlacer placer = new BulkBlockPlacer(world, true);
 		for (BlockInfo info : movingConstruct.blocks.values()) {
-			getWorld().setBlockState(info.pos.add(pos), Blocks.AIR.getDefaultState(), 67);
+			placer.setBlockState(info.pos.add(pos), Blocks.AIR.getDefaultState());
 		}
+		placer.flush();
 
 		if (isWindmill) {
 			RotationPropagator.handleRemoved(world, pos, this);
@@ -155,21 +178,18 @@ public class MechanicalBearingTileEntity extends KineticTileEntity implements IT
 		if (!running)
 			return;
 
+		BulkBlockPlacer placer = new BulkBlockPlacer(world, false);
 		for (BlockInfo block : movingConstruct.blocks.values()) {
 			BlockPos targetPos = block.pos.add(pos);
-			BlockState state = block.state;
-
-			for (Direction face : Direction.values())
-				state = state.updatePostPlacement(face, world.getBlockState(targetPos.offset(face)), world, targetPos,
-						targetPos.offset(face));
-
-			world.destroyBlock(targetPos, world.getBlockState(targetPos).getCollisionShape(world, targetPos).isEmpty());
-			getWorld().setBlockState(targetPos, state, 3);
+			placer.destroyBlock(targetPos,
+					world.getBlockState(targetPos).getCollisionShape(world, targetPos).isEmpty());
+			placer.setBlockState(targetPos, block.state);
 			TileEntity tileEntity = world.getTileEntity(targetPos);
 			if (tileEntity != null && block.nbt != null) {
 				((ChassisTileEntity) tileEntity).setRange(block.nbt.getInt("Range"));
 			}
 		}
+		placer.flush();
 
 		running = false;
 		movingConstruct = null;
@@ -25,7 +25,6 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.gen.feature.template.Template.BlockInfo;
-import net.minecraftforge.client.model.animation.Animation;
 import net.minecraftforge.client.model.data.EmptyModelData;
 
 public class MechanicalBearingTileEntityRenderer extends KineticTileEntityRenderer {
@@ -39,14 +38,15 @@ public class MechanicalBearingTileEntityRenderer extends KineticTileEntityRender
 		MechanicalBearingTileEntity bearingTe = (MechanicalBearingTileEntity) te;
 		final Direction facing = te.getBlockState().get(BlockStateProperties.FACING);
 		final BlockPos pos = te.getPos();
-		float time = Animation.getWorldTime(Minecraft.getInstance().world, partialTicks);
+		float time = getRenderTime(x, y, z, partialTicks);
+		int packedLightmapCoords = getPackedLight(te, x, y, z);
 		BlockState shaftState = AllBlocks.SHAFT_HALF.get().getDefaultState().with(BlockStateProperties.FACING,
 				facing.getOpposite());
 		BlockState capState = AllBlocks.MECHANICAL_BEARING_TOP.get().getDefaultState().with(BlockStateProperties.FACING,
 				facing);
 
 		cacheIfMissing(shaftState, BlockModelSpinner::new);
-		cacheIfMissing(capState, BlockModelSpinner::new);
+		cacheIfMissing(capState, ExactBlockModelSpinner::new);
 
 		float offset = getRotationOffsetForPosition(te, pos, facing.getAxis());
 		float angle = (time * te.getSpeed()) % 360;
@@ -55,10 +55,12 @@ public class MechanicalBearingTileEntityRenderer extends KineticTileEntityRender
 		angle = angle / 180f * (float) Math.PI;
 		float interpolatedAngle = bearingTe.getInterpolatedAngle(partialTicks);
 
-		renderFromCache(buffer, shaftState, (float) x, (float) y, (float) z, pos, facing.getAxis(), angle);
-		renderFromCache(buffer, capState, (float) x, (float) y, (float) z, pos, facing.getAxis(), interpolatedAngle);
+		renderFromCache(buffer, shaftState, (float) x, (float) y, (float) z, facing.getAxis(), angle,
+				packedLightmapCoords);
+		renderFromCache(buffer, capState, (float) x, (float) y, (float) z, facing.getAxis(), interpolatedAngle,
+				packedLightmapCoords);
 
-		if (!bearingTe.running)
+		if (!bearingTe.running || bearingTe.movingConstruct == null)
 			return;
 
 		cacheConstructIfMissing(bearingTe.movingConstruct);
@@ -1,13 +1,11 @@
 package com.simibubi.create.modules.contraptions.receivers.constructs;
 
-import static com.simibubi.create.CreateConfig.parameters;
-
 import java.util.Arrays;
-import java.util.Iterator;
 
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.AllTileEntities;
 import com.simibubi.create.Create;
+import com.simibubi.create.foundation.utility.BulkBlockPlacer;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
 import com.simibubi.create.modules.contraptions.receivers.constructs.MechanicalPistonBlock.PistonState;
 
@@ -21,6 +19,7 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.gen.feature.template.Template.BlockInfo;
@@ -34,6 +33,8 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 	protected boolean running;
 	protected boolean assembleNextTick;
 	protected boolean hadCollisionWithOtherPiston;
+	protected int constructId;
+	protected boolean sendConstruct;
 
 	public MechanicalPistonTileEntity() {
 		super(AllTileEntities.MECHANICAL_PISTON.type);
@@ -68,18 +69,35 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 	public CompoundNBT write(CompoundNBT tag) {
 		tag.putBoolean("Running", running);
 		tag.putFloat("Offset", offset);
+		tag.putInt("ConstructId", constructId);
 		if (running && !TranslationConstruct.isFrozen())
 			tag.put("Construct", movingConstruct.writeNBT());
 
 		return super.write(tag);
 	}
 
+	@Override
+	public CompoundNBT writeToClient(CompoundNBT tag) {
+		super.writeToClient(tag);
+		// Clients already got the construct on assembly or when they started tracking
+		if (!sendConstruct)
+			tag.remove("Construct");
+		sendConstruct = false;
+		return tag;
+	}
+
 	@Override
 	public void read(CompoundNBT tag) {
 		running = tag.getBoolean("Running");
 		offset = tag.getFloat("Offset");
-		if (running && !TranslationConstruct.isFrozen())
-			movingConstruct = TranslationConstruct.fromNBT(tag.getCompound("Construct"));
+		int id = tag.getInt("ConstructId");
+		if (running && !TranslationConstruct.isFrozen()) {
+			if (tag.contains("Construct"))
+				movingConstruct = TranslationConstruct.fromNBT(tag.getCompound("Construct"));
+			else if (id != constructId)
+				movingConstruct = null;
+		}
+		constructId = id;
 
 		super.read(tag);
 	}
@@ -122,17 +140,21 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 		// Run
 		running = true;
 		offset = movingConstruct.initialExtensionProgress;
+		constructId++;
+		sendConstruct = true;
 		if (!world.isRemote)
 			Create.constructHandler.add(this);
 
 		sendData();
 		getWorld().setBlockState(pos, getBlockState().with(MechanicalPistonBlock.STATE, PistonState.MOVING), 66);
+		BulkBlockPlacer placer = new BulkBlockPlacer(world, true);
 		for (BlockInfo block : movingConstruct.blocks.values()) {
 			BlockPos startPos = block.pos.offset(direction, movingConstruct.initialExtensionProgress);
 			if (startPos.equals(pos))
 				continue;
-			getWorld().setBlockState(startPos, Blocks.AIR.getDefaultState(), 67);
+			placer.setBlockState(startPos, Blocks.AIR.getDefaultState());
 		}
+		placer.flush();
 
 		onBlockVisited(offset);
 	}
@@ -145,6 +167,7 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 		if (!removed)
 			getWorld().setBlockState(pos, getBlockState().with(MechanicalPistonBlock.STATE, PistonState.EXTENDED), 3);
 
+		BulkBlockPlacer placer = new BulkBlockPlacer(world, false);
 		for (BlockInfo block : movingConstruct.blocks.values()) {
 			BlockPos targetPos = block.pos.offset(direction, getModulatedOffset(offset));
 			BlockState state = block.state;
@@ -154,17 +177,15 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 							getBlockState().with(MechanicalPistonBlock.STATE, PistonState.RETRACTED), 3);
 				continue;
 			}
-			for (Direction face : Direction.values())
-				state = state.updatePostPlacement(face, world.getBlockState(targetPos.offset(face)), world, targetPos,
-						targetPos.offset(face));
-
-			world.destroyBlock(targetPos, world.getBlockState(targetPos).getCollisionShape(world, targetPos).isEmpty());
-			getWorld().setBlockState(targetPos, state, 3);
+			placer.destroyBlock(targetPos,
+					world.getBlockState(targetPos).getCollisionShape(world, targetPos).isEmpty());
+			placer.setBlockState(targetPos, state);
 			TileEntity tileEntity = world.getTileEntity(targetPos);
 			if (tileEntity != null && block.nbt != null) {
 				((ChassisTileEntity) tileEntity).setRange(block.nbt.getInt("Range"));
 			}
 		}
+		placer.flush();
 
 		running = false;
 		if (!world.isRemote)
@@ -189,7 +210,7 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 			return;
 		}
 
-		if (!running)
+		if (!running || movingConstruct == null)
 			return;
 
 		float movementSpeed = getMovementSpeed();
@@ -235,21 +256,12 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 		BlockPos relativePos = BlockPos.ZERO.offset(movementDirection, getModulatedOffset(newOffset));
 
 		// Other moving Pistons
-		int maxPossibleRange = parameters.maxPistonPoles.get() + parameters.maxChassisRange.get()
-				+ parameters.maxChassisForTranslation.get();
-		Iterator<MechanicalPistonTileEntity> iterator = Create.constructHandler.getOtherMovingPistonsInWorld(this)
-				.iterator();
-		pistonLoop: while (iterator.hasNext()) {
-			MechanicalPistonTileEntity otherPiston = iterator.next();
-
-			if (otherPiston == this)
-				continue;
+		pistonLoop: for (MechanicalPistonTileEntity otherPiston : Create.constructHandler
+				.getNearbyMovingPistons(this)) {
 			if (!otherPiston.running || otherPiston.movingConstruct == null) {
-				iterator.remove();
+				Create.constructHandler.remove(otherPiston);
 				continue;
 			}
-			if (otherPiston.pos.manhattanDistance(pos) > maxPossibleRange * 2)
-				continue;
 
 			Direction otherMovementDirection = otherPiston.getBlockState().get(BlockStateProperties.FACING);
 			BlockPos otherRelativePos = BlockPos.ZERO.offset(otherMovementDirection,
@@ -269,13 +281,10 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 					AxisAlignedBB otherBB = oBB.offset(otherRelativePos);
 
 					if (thisBB.intersects(otherBB)) {
-						boolean actuallyColliding = false;
-						for (BlockPos colliderPos : movingConstruct.getColliders(world, movementDirection)) {
-							colliderPos = colliderPos.add(thisColliderOffset).subtract(otherRelativePos);
-							if (!otherPiston.movingConstruct.blocks.containsKey(colliderPos))
-								continue;
-							actuallyColliding = true;
-						}
+						BlockPos colliderOffset = thisColliderOffset.subtract(otherRelativePos);
+						boolean actuallyColliding = movingConstruct.getColliders(world, movementDirection).intersects(
+								otherPiston.movingConstruct.getVoxels(), colliderOffset.getX(), colliderOffset.getY(),
+								colliderOffset.getZ());
 						if (!actuallyColliding)
 							continue pistonLoop;
 						hadCollisionWithOtherPiston = true;
@@ -291,18 +300,17 @@ public class MechanicalPistonTileEntity extends KineticTileEntity implements ITi
 			return false;
 
 		// Other Blocks in world
-		for (BlockPos pos : movingConstruct.getColliders(world,
-				getMovementSpeed() > 0 ? movementDirection : movementDirection.getOpposite())) {
-			BlockPos colliderPos = pos.add(relativePos);
-
-			if (!world.isBlockPresent(colliderPos))
-				return true;
-			if (!world.getBlockState(colliderPos).getMaterial().isReplaceable()
-					&& !world.getBlockState(colliderPos).getCollisionShape(world, colliderPos).isEmpty())
-				return true;
-		}
-
-		return false;
+		MutableBlockPos colliderPos = new MutableBlockPos();
+		return movingConstruct.getColliders(world,
+				getMovementSpeed() > 0 ? movementDirection : movementDirection.getOpposite()).anyMatch(pos -> {
+					colliderPos.setPos(pos.getX() + relativePos.getX(), pos.getY() + relativePos.getY(),
+							pos.getZ() + relativePos.getZ());
+					if (!world.isBlockPresent(colliderPos))
+						return true;
+					BlockState state = world.getBlockState(colliderPos);
+					return !state.getMaterial().isReplaceable()
+							&& !state.getCollisionShape(world, colliderPos).isEmpty();
+				});
 	}
 
 	private int getModulatedOffset(float offset) {
@@ -38,7 +38,7 @@ public class MechanicalPistonTileEntityRenderer extends KineticTileEntityRendere
 		// SPECIAL RENDER
 		MechanicalPistonTileEntity pistonTe = (MechanicalPistonTileEntity) te;
 
-		if (!pistonTe.running)
+		if (!pistonTe.running || pistonTe.movingConstruct == null)
 			return;
 
 		cacheConstructIfMissing(pistonTe.movingConstruct);
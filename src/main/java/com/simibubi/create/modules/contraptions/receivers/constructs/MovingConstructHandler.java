@@ -1,6 +1,6 @@
 package com.simibubi.create.modules.contraptions.receivers.constructs;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,10 +32,10 @@ import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 public class MovingConstructHandler {
 
 	static List<AxisAlignedBB> renderedBBs = new LinkedList<>();
-	static Map<IWorld, List<MechanicalPistonTileEntity>> movingPistons = new HashMap<>();
+	static Map<IWorld, ConstructCollisionIndex> movingPistons = new HashMap<>();
 
 	public void onLoadWorld(IWorld world) {
-		movingPistons.put(world, new ArrayList<>());
+		movingPistons.put(world, new ConstructCollisionIndex());
 		Create.logger.debug("Prepared Construct List for " + world.getDimension().getType().getRegistryName());
 	}
 
@@ -73,7 +73,7 @@ public class MovingConstructHandler {
 				BlockPos min = new BlockPos(entityScanBB.minX, entityScanBB.minY, entityScanBB.minZ);
 				BlockPos max = new BlockPos(entityScanBB.maxX, entityScanBB.maxY, entityScanBB.maxZ);
 
-				Stream<VoxelShape> hits = BlockPos.getAllInBox(min, max).filter(construct.blocks::containsKey)
+				Stream<VoxelShape> hits = BlockPos.getAllInBox(min, max).filter(construct.getVoxels()::contains)
 						.map(pos -> {
 							Vec3d vec = new Vec3d(pos).add(te.getConstructOffset(te.getMovementSpeed() > 0 ? 1 : 0));
 							return construct.blocks.get(pos).state.getShape(world, new BlockPos(vec)).withOffset(vec.x,
@@ -159,9 +159,9 @@ public class MovingConstructHandler {
 		movingPistons.get(mechanicalPistonTileEntity.getWorld()).remove(mechanicalPistonTileEntity);
 	}
 
-	public List<MechanicalPistonTileEntity> getOtherMovingPistonsInWorld(
+	public Collection<MechanicalPistonTileEntity> getNearbyMovingPistons(
 			MechanicalPistonTileEntity mechanicalPistonTileEntity) {
-		return movingPistons.get(mechanicalPistonTileEntity.getWorld());
+		return movingPistons.get(mechanicalPistonTileEntity.getWorld()).getNearby(mechanicalPistonTileEntity);
 	}
 
 //	@SubscribeEvent
@@ -15,8 +15,6 @@ import com.simibubi.create.CreateConfig;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.PistonBlock;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.ListNBT;
-import net.minecraft.nbt.NBTUtil;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
@@ -171,29 +169,14 @@ public class RotationConstruct {
 
 	public CompoundNBT writeNBT() {
 		CompoundNBT nbt = new CompoundNBT();
-		ListNBT blocks = new ListNBT();
-		for (BlockInfo block : this.blocks.values()) {
-			CompoundNBT c = new CompoundNBT();
-			c.put("Block", NBTUtil.writeBlockState(block.state));
-			c.put("Pos", NBTUtil.writeBlockPos(block.pos));
-			if (block.nbt != null)
-				c.put("Data", block.nbt);
-			blocks.add(c);
-		}
-
-		nbt.put("Blocks", blocks);
+		ConstructNBT.writeBlocks(nbt, blocks.values());
 		return nbt;
 	}
 
 	public static RotationConstruct fromNBT(CompoundNBT nbt) {
 		RotationConstruct construct = new RotationConstruct();
-		nbt.getList("Blocks", 10).forEach(c -> {
-			CompoundNBT comp = (CompoundNBT) c;
-			BlockInfo info = new BlockInfo(NBTUtil.readBlockPos(comp.getCompound("Pos")),
-					NBTUtil.readBlockState(comp.getCompound("Block")),
-					comp.contains("Data") ? comp.getCompound("Data") : null);
+		for (BlockInfo info : ConstructNBT.readBlocks(nbt))
 			construct.blocks.put(info.pos, info);
-		});
 
 		return construct;
 	}
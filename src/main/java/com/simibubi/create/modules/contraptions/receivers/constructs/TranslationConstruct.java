@@ -26,7 +26,6 @@ import net.minecraft.block.ShulkerBoxBlock;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.FloatNBT;
 import net.minecraft.nbt.ListNBT;
-import net.minecraft.nbt.NBTUtil;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.state.properties.PistonType;
 import net.minecraft.util.Direction;
@@ -44,7 +43,8 @@ public class TranslationConstruct {
 	protected AxisAlignedBB collisionBoxFront;
 	protected AxisAlignedBB collisionBoxBack;
 
-	protected Set<BlockPos> cachedColliders;
+	protected ConstructVoxels voxels;
+	protected ConstructVoxels cachedColliders;
 	protected Direction cachedColliderDirection;
 
 	protected int extensionLength;
@@ -55,26 +55,18 @@ public class TranslationConstruct {
 		actors = new ArrayList<>();
 	}
 
-	public Set<BlockPos> getColliders(World world, Direction movementDirection) {
+	public ConstructVoxels getVoxels() {
+		if (voxels == null)
+			voxels = ConstructVoxels.of(blocks.keySet());
+		return voxels;
+	}
+
+	public ConstructVoxels getColliders(World world, Direction movementDirection) {
 		if (blocks == null)
 			return null;
 		if (cachedColliders == null || cachedColliderDirection != movementDirection) {
-			cachedColliders = new HashSet<>();
+			cachedColliders = getVoxels().getFaces(movementDirection);
 			cachedColliderDirection = movementDirection;
-
-			for (BlockInfo info : blocks.values()) {
-				BlockPos offsetPos = info.pos.offset(movementDirection);
-				boolean hasNext = false;
-				for (BlockInfo otherInfo : blocks.values()) {
-					if (!otherInfo.pos.equals(offsetPos))
-						continue;
-					hasNext = true;
-					break;
-				}
-				if (!hasNext)
-					cachedColliders.add(info.pos);
-			}
-
 		}
 		return cachedColliders;
 	}
@@ -398,15 +390,7 @@ public class TranslationConstruct {
 
 	public CompoundNBT writeNBT() {
 		CompoundNBT nbt = new CompoundNBT();
-		ListNBT blocks = new ListNBT();
-		for (BlockInfo block : this.blocks.values()) {
-			CompoundNBT c = new CompoundNBT();
-			c.put("Block", NBTUtil.writeBlockState(block.state));
-			c.put("Pos", NBTUtil.writeBlockPos(block.pos));
-			if (block.nbt != null)
-				c.put("Data", block.nbt);
-			blocks.add(c);
-		}
+		ConstructNBT.writeBlocks(nbt, blocks.values());
 
 		if (collisionBoxFront != null) {
 			ListNBT bb = writeAABB(collisionBoxFront);
@@ -418,7 +402,6 @@ public class TranslationConstruct {
 			nbt.put("BoundsBack", bb);
 		}
 
-		nbt.put("Blocks", blocks);
 		nbt.putInt("ExtensionLength", extensionLength);
 		return nbt;
 	}
@@ -444,13 +427,8 @@ public class TranslationConstruct {
 
 	public static TranslationConstruct fromNBT(CompoundNBT nbt) {
 		TranslationConstruct construct = new TranslationConstruct();
-		nbt.getList("Blocks", 10).forEach(c -> {
-			CompoundNBT comp = (CompoundNBT) c;
-			BlockInfo info = new BlockInfo(NBTUtil.readBlockPos(comp.getCompound("Pos")),
-					NBTUtil.readBlockState(comp.getCompound("Block")),
-					comp.contains("Data") ? comp.getCompound("Data") : null);
+		for (BlockInfo info : ConstructNBT.readBlocks(nbt))
 			construct.blocks.put(info.pos, info);
-		});
 		construct.extensionLength = nbt.getInt("ExtensionLength");
 
 		if (nbt.contains("BoundsFront"))
@@ -1,8 +1,12 @@
 package com.simibubi.create.modules.contraptions.relays;
 
+import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
+
 import net.minecraft.block.BlockState;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
 
 public class ClutchBlock extends GearshiftBlock {
 
@@ -11,4 +15,11 @@ public class ClutchBlock extends GearshiftBlock {
 		return new ClutchTileEntity();
 	}
 
+	@Override
+	protected void onPowerToggled(World world, BlockPos pos, KineticTileEntity te) {
+		// Engaging or releasing changes which blocks are driven at all
+		te.detachKinetics();
+		te.attachKinetics();
+	}
+
 }
@@ -5,13 +5,11 @@ import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntityRenderer;
 
 import net.minecraft.block.BlockState;
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.util.Direction;
 import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.math.BlockPos;
-import net.minecraftforge.client.model.animation.Animation;
 
 public class GearboxTileEntityRenderer extends KineticTileEntityRenderer {
 
@@ -20,7 +18,8 @@ public class GearboxTileEntityRenderer extends KineticTileEntityRenderer {
 			int destroyStage, BufferBuilder buffer) {
 		final Axis boxAxis = te.getBlockState().get(BlockStateProperties.AXIS);
 		final BlockPos pos = te.getPos();
-		float time = Animation.getWorldTime(Minecraft.getInstance().world, partialTicks);
+		float time = getRenderTime(x, y, z, partialTicks);
+		int packedLightmapCoords = getPackedLight(te, x, y, z);
 		final BlockState defaultState = AllBlocks.SHAFT_HALF.get().getDefaultState();
 
 		for (Direction direction : Direction.values()) {
@@ -48,7 +47,7 @@ public class GearboxTileEntityRenderer extends KineticTileEntityRenderer {
 			angle += offset;
 			angle = angle / 180f * (float) Math.PI;
 
-			renderFromCache(buffer, state, (float) x, (float) y, (float) z, pos, axis, angle);
+			renderFromCache(buffer, state, (float) x, (float) y, (float) z, axis, angle, packedLightmapCoords);
 		}
 	}
 
@@ -44,17 +44,23 @@ public class GearshiftBlock extends EncasedShaftBlock {
 	@Override
 	public void neighborChanged(BlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos,
 			boolean isMoving) {
+		super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
 		if (worldIn.isRemote)
 			return;
 
 		boolean previouslyPowered = state.get(POWERED);
 		if (previouslyPowered != worldIn.isBlockPowered(pos)) {
 			worldIn.setBlockState(pos, state.cycle(POWERED), 2);
-			if (!previouslyPowered)
-				RotationPropagator.handleRemoved(worldIn, pos, (KineticTileEntity) worldIn.getTileEntity(pos));
+			TileEntity te = worldIn.getTileEntity(pos);
+			if (te instanceof KineticTileEntity)
+				onPowerToggled(worldIn, pos, (KineticTileEntity) te);
 		}
 	}
 
+	protected void onPowerToggled(World world, BlockPos pos, KineticTileEntity te) {
+		RotationPropagator.handleReversed(world, pos, te);
+	}
+
 	public boolean hasShaftTowards(World world, BlockPos pos, BlockState state, Direction face) {
 		return super.hasShaftTowards(world, pos, state, face);
 	}
@@ -1,8 +1,12 @@
 package com.simibubi.create.modules.contraptions.relays.belt;
 
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import com.simibubi.create.AllBlocks;
@@ -39,6 +43,24 @@ public enum AllBeltAttachments {
 
 		public boolean handleEntity(BeltTileEntity te, Entity entity, BeltAttachmentState state);
 
+		/**
+		 * Whether this attachment can work on stacks carried by the belt. Stacks
+		 * entering a segment with any attachment that cannot are dropped as item
+		 * entities instead.
+		 */
+		default boolean handlesItems() {
+			return false;
+		}
+
+		/**
+		 * Called for a stack carried by the belt that reached the centre of the
+		 * attached segment. The stack may be shrunk or emptied. Returns true to hold
+		 * the stack in place.
+		 */
+		default boolean handleItem(BeltTileEntity te, TransportedItemStack stack, BeltAttachmentState state) {
+			return false;
+		}
+
 		default void onAttachmentPlaced(IWorld world, BlockPos pos, BlockState state) {
 			Optional<BlockPos> beltPos = getValidBeltPositionFor(world, pos, state);
 			if (!beltPos.isPresent())
@@ -75,59 +97,141 @@ public enum AllBeltAttachments {
 
 	}
 
+	public static AllBeltAttachments getType(IBeltAttachment attachment) {
+		for (AllBeltAttachments type : values())
+			if (type.attachment == attachment)
+				return type;
+		return null;
+	}
+
 	public static class Tracker {
-		public List<BeltAttachmentState> attachments;
+		public Map<BlockPos, BeltAttachmentState> attachments;
 		private BeltTileEntity te;
 
 		public Tracker(BeltTileEntity te) {
-			attachments = new ArrayList<>(0);
+			attachments = new LinkedHashMap<>(2);
 			this.te = te;
 		}
 
 		public void findAttachments(BeltTileEntity belt) {
-			for (AllBeltAttachments ba : AllBeltAttachments.values()) {
-				List<BlockPos> attachmentPositions = ba.attachment.getPotentialAttachmentLocations(belt);
-				World world = belt.getWorld();
-				for (BlockPos potentialPos : attachmentPositions) {
-					if (!world.isBlockPresent(potentialPos))
-						continue;
-					BlockState state = world.getBlockState(potentialPos);
-					if (!(state.getBlock() instanceof IBeltAttachment)) 
-						continue;
-					Optional<BlockPos> validBeltPos = ((IBeltAttachment) state.getBlock()).getValidBeltPositionFor(world, potentialPos, state);
-					if (!validBeltPos.isPresent())
-						continue;
-					if (validBeltPos.get().equals(belt.getPos()))
-						addAttachment(world, potentialPos);
-				}
+			Set<BlockPos> potentialPositions = new HashSet<>();
+			for (AllBeltAttachments ba : AllBeltAttachments.values())
+				potentialPositions.addAll(ba.attachment.getPotentialAttachmentLocations(belt));
+
+			World world = belt.getWorld();
+			for (BlockPos potentialPos : potentialPositions) {
+				if (!world.isBlockPresent(potentialPos))
+					continue;
+				BlockState state = world.getBlockState(potentialPos);
+				if (!(state.getBlock() instanceof IBeltAttachment))
+					continue;
+				Optional<BlockPos> validBeltPos = ((IBeltAttachment) state.getBlock()).getValidBeltPositionFor(world,
+						potentialPos, state);
+				if (!validBeltPos.isPresent())
+					continue;
+				if (validBeltPos.get().equals(belt.getPos()))
+					addAttachment(world, potentialPos);
 			}
 		}
 
 		public BeltAttachmentState addAttachment(IWorld world, BlockPos pos) {
 			BlockState state = world.getBlockState(pos);
-			removeAttachment(pos);
 			if (!(state.getBlock() instanceof IBeltAttachment)) {
+				removeAttachment(pos);
 				Create.logger.warn("Missing belt attachment for Belt at " + pos.toString());
 				return null;
 			}
 			BeltAttachmentState newAttachmentState = new BeltAttachmentState((IBeltAttachment) state.getBlock(), pos);
-			attachments.add(newAttachmentState);
-			te.markDirty();
+			attachments.put(pos, newAttachmentState);
+			onAttachmentsChanged();
 			return newAttachmentState;
 		}
 
 		public void removeAttachment(BlockPos pos) {
-			BeltAttachmentState toRemove = null;
-			for (BeltAttachmentState atState : attachments)
-				if (atState.attachmentPos.equals(pos))
-					toRemove = atState;
-			if (toRemove != null)
-				attachments.remove(toRemove);
+			attachments.remove(pos);
+			onAttachmentsChanged();
+		}
+
+		protected void onAttachmentsChanged() {
+			te.updateAttachmentIndex();
+			te.wakeUpController();
 			te.markDirty();
 		}
 
+		public boolean handlesItems() {
+			for (BeltAttachmentState state : attachments.values())
+				if (!state.attachment.handlesItems())
+					return false;
+			return true;
+		}
+
+		public boolean handleItem(TransportedItemStack stack) {
+			boolean held = false;
+			for (BeltAttachmentState state : attachments.values()) {
+				held |= state.attachment.handleItem(te, stack, state);
+				if (stack.stack.isEmpty())
+					break;
+			}
+			return held;
+		}
+
 		public void forEachAttachment(Consumer<BeltAttachmentState> consumer) {
-			attachments.forEach(consumer::accept);
+			attachments.values().forEach(consumer::accept);
+		}
+
+		/**
+		 * Restores attachments saved along with their type without looking at the
+		 * world, see {@link #verifyAttachments(World)}. Returns false if some of them
+		 * have to be searched for first, as they were saved by an older version.
+		 */
+		public boolean read(CompoundNBT nbt) {
+			attachments.clear();
+			if (!nbt.contains("HasAttachments"))
+				return true;
+
+			boolean complete = true;
+			for (INBT data : nbt.getList("AttachmentData", 10)) {
+				CompoundNBT stateNBT = (CompoundNBT) data;
+				BlockPos attachmentPos = NBTUtil.readBlockPos(stateNBT.getCompound("Position"));
+				AllBeltAttachments type = null;
+				for (AllBeltAttachments ba : AllBeltAttachments.values())
+					if (ba.name().equals(stateNBT.getString("Type")))
+						type = ba;
+				if (type == null) {
+					complete = false;
+					continue;
+				}
+
+				BeltAttachmentState atState = new BeltAttachmentState(type.attachment, attachmentPos);
+				atState.processingDuration = stateNBT.getInt("Duration");
+				attachments.put(attachmentPos, atState);
+			}
+			return complete;
+		}
+
+		/**
+		 * Drops restored attachments whose block is gone, as they may have been
+		 * removed while the belt was not loaded. Returns false while some of them
+		 * cannot be looked at yet.
+		 */
+		public boolean verifyAttachments(World world) {
+			boolean complete = true;
+			boolean changed = false;
+			for (Iterator<BeltAttachmentState> iterator = attachments.values().iterator(); iterator.hasNext();) {
+				BeltAttachmentState state = iterator.next();
+				if (!world.isBlockPresent(state.attachmentPos)) {
+					complete = false;
+					continue;
+				}
+				if (world.getBlockState(state.attachmentPos).getBlock() == state.attachment)
+					continue;
+				Create.logger.warn("Missing belt attachment for Belt at " + state.attachmentPos.toString());
+				iterator.remove();
+				changed = true;
+			}
+			if (changed)
+				onAttachmentsChanged();
+			return complete;
 		}
 
 		public void readAndSearch(CompoundNBT nbt, BeltTileEntity belt) {
@@ -155,6 +259,9 @@ public enum AllBeltAttachments {
 					CompoundNBT stateNBT = new CompoundNBT();
 					stateNBT.put("Position", NBTUtil.writeBlockPos(atState.attachmentPos));
 					stateNBT.putInt("Duration", atState.processingDuration);
+					AllBeltAttachments type = getType(atState.attachment);
+					if (type != null)
+						stateNBT.putString("Type", type.name());
 					list.add(stateNBT);
 				});
 				nbt.put("AttachmentData", list);
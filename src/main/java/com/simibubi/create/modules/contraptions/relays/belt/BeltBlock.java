@@ -8,6 +8,7 @@ import com.simibubi.create.AllItems;
 import com.simibubi.create.foundation.block.IWithTileEntity;
 import com.simibubi.create.foundation.block.IWithoutBlockItem;
 import com.simibubi.create.foundation.utility.Lang;
+import com.simibubi.create.modules.contraptions.RotationPropagator;
 import com.simibubi.create.modules.contraptions.base.HorizontalKineticBlock;
 import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity.TransportedEntityInfo;
 
@@ -15,6 +16,7 @@ import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.DyeColor;
 import net.minecraft.item.ItemStack;
@@ -108,13 +110,14 @@ public class BeltBlock extends HorizontalKineticBlock implements IWithoutBlockIt
 
 		if (controller == null)
 			return;
+		controller.wakeUp();
 		if (controller.passengers == null)
 			return;
 
 		if (controller.passengers.containsKey(entityIn))
-			controller.passengers.get(entityIn).refresh(belt.getPos(), belt.getBlockState());
+			controller.passengers.get(entityIn).refresh(belt);
 		else
-			controller.passengers.put(entityIn, new TransportedEntityInfo(belt.getPos(), belt.getBlockState()));
+			controller.passengers.put(entityIn, new TransportedEntityInfo(belt));
 	}
 
 	@Override
@@ -139,19 +142,63 @@ public class BeltBlock extends HorizontalKineticBlock implements IWithoutBlockIt
 
 		if (controller == null)
 			return;
+		controller.wakeUp();
 		if (controller.passengers == null)
 			return;
 
+		if (!worldIn.isRemote && entityIn instanceof ItemEntity && entityIn.isAlive()) {
+			if (insertItemEntity(belt, controller, (ItemEntity) entityIn))
+				return;
+		}
+
 		if (controller.passengers.containsKey(entityIn)) {
 			TransportedEntityInfo transportedEntityInfo = controller.passengers.get(entityIn);
 			if (transportedEntityInfo.ticksSinceLastCollision != 0 || pos.equals(entityIn.getPosition()))
-				transportedEntityInfo.refresh(pos, state);
+				transportedEntityInfo.refresh(belt);
 		} else
-			controller.passengers.put(entityIn, new TransportedEntityInfo(pos, state));
+			controller.passengers.put(entityIn, new TransportedEntityInfo(belt));
+	}
+
+	/**
+	 * Turns an item entity landing on top of the given segment into a stack
+	 * carried by the belt. Items stay entities on vertical belts, next to
+	 * attachments which only handle entities or when there is no room.
+	 */
+	protected boolean insertItemEntity(BeltTileEntity belt, BeltTileEntity controller, ItemEntity entity) {
+		BlockState state = belt.getBlockState();
+		if (!belt.canTakeItems())
+			return false;
+		if (entity.posY - .25f < belt.getPos().getY())
+			return false;
+		// Rising items, like ones lifted off by a fan, stay entities
+		if (entity.getMotion().y > 0)
+			return false;
+
+		Direction facing = state.get(HORIZONTAL_FACING);
+		BlockPos pos = belt.getPos();
+		Axis axis = facing.getAxis();
+		double along = axis.getCoordinate(entity.posX, entity.posY, entity.posZ)
+				- axis.getCoordinate(pos.getX(), pos.getY(), pos.getZ());
+		if (facing.getAxisDirection() == AxisDirection.NEGATIVE)
+			along = 1 - along;
+		if (along < 0 || along > 1)
+			return false;
+
+		ItemStack remainder = belt.insertItem(entity.getItem(), (float) along);
+		if (!remainder.isEmpty()) {
+			if (remainder.getCount() != entity.getItem().getCount())
+				entity.setItem(remainder);
+			return false;
+		}
+
+		controller.passengers.remove(entity);
+		entity.remove();
+		return true;
 	}
 
 	@Override
 	public void onBlockAdded(BlockState state, World worldIn, BlockPos pos, BlockState oldState, boolean isMoving) {
+		super.onBlockAdded(state, worldIn, pos, oldState, isMoving);
 		withTileEntityDo(worldIn, pos, te -> {
 			te.attachmentTracker.findAttachments(te);
 		});
@@ -163,6 +210,8 @@ public class BeltBlock extends HorizontalKineticBlock implements IWithoutBlockIt
 		if (player.isSneaking() || !player.isAllowEdit())
 			return false;
 		ItemStack heldItem = player.getHeldItem(handIn);
+		if (heldItem.isEmpty())
+			return takeItems(worldIn, pos, player);
 		if (!Tags.Items.DYES.contains(heldItem.getItem()))
 			return false;
 		if (worldIn.isRemote)
@@ -173,6 +222,20 @@ public class BeltBlock extends HorizontalKineticBlock implements IWithoutBlockIt
 		return true;
 	}
 
+	protected boolean takeItems(World world, BlockPos pos, PlayerEntity player) {
+		BeltTileEntity belt = (BeltTileEntity) world.getTileEntity(pos);
+		if (belt == null)
+			return false;
+		BeltTileEntity controller = (BeltTileEntity) world.getTileEntity(belt.getController());
+		if (controller == null || controller.getInventory() == null || controller.getInventory().isEmpty())
+			return false;
+		if (world.isRemote)
+			return true;
+		for (ItemStack stack : controller.getInventory().takeItemsAt(belt.getSegment()))
+			player.inventory.placeItemBackInInventory(world, stack);
+		return true;
+	}
+
 	@Override
 	protected void fillStateContainer(Builder<Block, BlockState> builder) {
 		builder.add(SLOPE, PART);
@@ -251,6 +314,7 @@ public class BeltBlock extends HorizontalKineticBlock implements IWithoutBlockIt
 		if (worldIn.isRemote)
 			return;
 
+		RotationPropagator.invalidateConnections(worldIn, pos);
 		boolean endWasDestroyed = state.get(PART) == Part.END;
 		TileEntity tileEntity = worldIn.getTileEntity(pos);
 		if (tileEntity == null)
@@ -259,9 +323,22 @@ public class BeltBlock extends HorizontalKineticBlock implements IWithoutBlockIt
 			return;
 		BeltTileEntity beltEntity = (BeltTileEntity) tileEntity;
 		BlockPos controller = beltEntity.getController();
+		TileEntity controllerEntity = worldIn.getTileEntity(controller);
+		BeltTileEntity controllerTE = null;
+		if (controllerEntity instanceof BeltTileEntity && ((BeltTileEntity) controllerEntity).isController()) {
+			controllerTE = (BeltTileEntity) controllerEntity;
+			controllerTE.getInventory().ejectAll();
+		}
 		beltEntity.setSource(null);
 		beltEntity.remove();
 
+		if (controllerTE != null && controllerTE.chain != null) {
+			for (BlockPos toDestroy : controllerTE.chain)
+				if (!toDestroy.equals(pos))
+					destroySegment(worldIn, toDestroy);
+			return;
+		}
+
 		int limit = 1000;
 		BlockPos toDestroy = controller;
 		BlockState destroyedBlock = null;
@@ -269,22 +346,9 @@ public class BeltBlock extends HorizontalKineticBlock implements IWithoutBlockIt
 		do {
 
 			if (!toDestroy.equals(pos)) {
-				destroyedBlock = worldIn.getBlockState(toDestroy);
-				if (!AllBlocks.BELT.typeOf(destroyedBlock))
+				destroyedBlock = destroySegment(worldIn, toDestroy);
+				if (destroyedBlock == null)
 					break;
-
-				BeltTileEntity te = (BeltTileEntity) worldIn.getTileEntity(toDestroy);
-				boolean hasPulley = te.hasPulley();
-				te.setSource(null);
-				te.remove();
-
-				if (hasPulley) {
-					worldIn.setBlockState(toDestroy, AllBlocks.SHAFT.get().getDefaultState()
-							.with(BlockStateProperties.AXIS, getRotationAxis(destroyedBlock)), 3);
-				} else {
-					worldIn.destroyBlock(toDestroy, false);
-				}
-
 				if (destroyedBlock.get(PART) == Part.END)
 					break;
 			} else {
@@ -308,6 +372,32 @@ public class BeltBlock extends HorizontalKineticBlock implements IWithoutBlockIt
 
 	}
 
+	/**
+	 * Removes a remaining segment of a broken belt, leaving a shaft where it had a
+	 * pulley. Returns the state of the removed segment, or null if it was no
+	 * belt.
+	 */
+	protected BlockState destroySegment(World world, BlockPos pos) {
+		BlockState destroyedBlock = world.getBlockState(pos);
+		if (!AllBlocks.BELT.typeOf(destroyedBlock))
+			return null;
+
+		BeltTileEntity te = (BeltTileEntity) world.getTileEntity(pos);
+		boolean hasPulley = te != null && te.hasPulley();
+		if (te != null) {
+			te.setSource(null);
+			te.remove();
+		}
+
+		if (hasPulley) {
+			world.setBlockState(pos, AllBlocks.SHAFT.get().getDefaultState().with(BlockStateProperties.AXIS,
+					getRotationAxis(destroyedBlock)), 3);
+		} else {
+			world.destroyBlock(pos, false);
+		}
+		return destroyedBlock;
+	}
+
 	@Override
 	public boolean hasShaftTowards(World world, BlockPos pos, BlockState state, Direction face) {
 		if (face.getAxis() != getRotationAxis(state))
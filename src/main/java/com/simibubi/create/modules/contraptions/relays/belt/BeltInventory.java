@@ -0,0 +1,355 @@
+package com.simibubi.create.modules.contraptions.relays.belt;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Function;
+
+import com.simibubi.create.AllBlocks;
+import com.simibubi.create.AllPackets;
+import com.simibubi.create.foundation.utility.VecHelper;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltBlock.Slope;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.state.properties.BlockStateProperties;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.Vec3i;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.network.PacketDistributor;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+/**
+ * Items riding a belt, kept on its controller as plain stacks and their offset
+ * along the belt instead of as item entities. Items only become entities again
+ * when they leave the belt or enter a segment with an attachment that cannot
+ * handle stacks.
+ */
+public class BeltInventory {
+
+	public static final float SPACING = 1;
+	public static final int SYNC_INTERVAL = 10;
+
+	final BeltTileEntity belt;
+	final List<TransportedItemStack> items;
+	boolean needsSync;
+	long lastSync;
+
+	public BeltInventory(BeltTileEntity te) {
+		belt = te;
+		items = new ArrayList<>();
+	}
+
+	public void tick() {
+		if (!items.isEmpty())
+			moveItems();
+
+		// Clients predict movement, so changes are sent at most once per interval
+		World world = belt.getWorld();
+		if (needsSync && !world.isRemote && world.getGameTime() - lastSync >= SYNC_INTERVAL) {
+			needsSync = false;
+			lastSync = world.getGameTime();
+			AllPackets.channel.send(PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunkAt(belt.getPos())),
+					new BeltInventoryPacket(belt));
+		}
+	}
+
+	protected void moveItems() {
+		World world = belt.getWorld();
+		float speed = belt.getBeltMovementSpeed();
+		int length = belt.getBeltLength();
+		boolean sloped = belt.getBlockState().get(BeltBlock.SLOPE) != Slope.HORIZONTAL;
+		boolean tooSlow = Math.abs(belt.getSpeed()) < (sloped ? 32 : 1);
+		boolean changed = false;
+
+		// Items are sorted by offset, walk them front to back so each one sees where
+		// the item ahead of it has moved to
+		boolean positive = speed > 0;
+		ListIterator<TransportedItemStack> iterator = items.listIterator(positive ? items.size() : 0);
+		TransportedItemStack ahead = null;
+
+		while (positive ? iterator.hasPrevious() : iterator.hasNext()) {
+			TransportedItemStack current = positive ? iterator.previous() : iterator.next();
+			current.prevBeltPosition = current.beltPosition;
+			if (tooSlow || length == 0)
+				continue;
+
+			// Join the item in front if it stopped right ahead
+			if (ahead != null && !world.isRemote
+					&& Math.abs(ahead.beltPosition - current.beltPosition) <= SPACING + Math.abs(speed)) {
+				if (merge(current.stack, ahead.stack) && current.stack.isEmpty()) {
+					iterator.remove();
+					changed = true;
+					continue;
+				}
+			}
+
+			float nextOffset = current.beltPosition + speed;
+
+			// Keep distance to the item in front
+			if (ahead != null) {
+				float limit = ahead.beltPosition - SPACING * Math.signum(speed);
+				nextOffset = positive ? Math.min(nextOffset, limit) : Math.max(nextOffset, limit);
+				if ((nextOffset - current.beltPosition) * speed < 0)
+					nextOffset = current.beltPosition;
+			}
+
+			// Hand the item to attachments on the segment it moves into
+			int segmentBefore = getSegment(current.beltPosition);
+			int segment = getSegment(nextOffset);
+			if (belt.hasAttachmentsAt(segment)) {
+				BeltTileEntity segmentTE = getSegmentTE(segment);
+				if (segmentTE == null || !segmentTE.attachmentTracker.handlesItems()) {
+					if (!world.isRemote && segment != segmentBefore) {
+						current.beltPosition = nextOffset;
+						spawnEntity(current, Vec3d.ZERO);
+						iterator.remove();
+						changed = true;
+						continue;
+					}
+				} else if ((nextOffset - (segment + .5f)) * speed >= 0) {
+					// Clients only predict the item being held at the centre
+					int count = current.stack.getCount();
+					boolean held = world.isRemote || segmentTE.attachmentTracker.handleItem(current);
+					if (held)
+						nextOffset = segment + .5f;
+					if (!world.isRemote) {
+						belt.getMetrics().onDelivered(count - current.stack.getCount());
+						if (held && !current.stack.isEmpty())
+							belt.getMetrics().onStall();
+					}
+					changed |= current.stack.getCount() != count;
+					if (current.stack.isEmpty()) {
+						iterator.remove();
+						continue;
+					}
+				}
+			}
+
+			// Leave the belt
+			boolean pastEnd = positive ? nextOffset > length : nextOffset < 0;
+			if (pastEnd) {
+				if (!world.isRemote && eject(current, speed)) {
+					belt.getMetrics().onDelivered(current.stack.getCount());
+					iterator.remove();
+					changed = true;
+					continue;
+				}
+				nextOffset = positive ? length : 0;
+			}
+
+			current.beltPosition = nextOffset;
+			ahead = current;
+		}
+
+		if (changed)
+			markChanged();
+	}
+
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+
+	public boolean canInsertAt(float offset) {
+		int index = getInsertionIndex(offset);
+		if (index > 0 && offset - items.get(index - 1).beltPosition < SPACING)
+			return false;
+		if (index < items.size() && items.get(index).beltPosition - offset < SPACING)
+			return false;
+		return true;
+	}
+
+	/**
+	 * Adds as much of the given stack as possible to matching stacks closer than
+	 * the item spacing to the given offset. Returns the rest.
+	 */
+	public ItemStack mergeAt(ItemStack stack, float offset) {
+		ItemStack remainder = stack.copy();
+		int index = getInsertionIndex(offset);
+		boolean merged = false;
+
+		for (int i = Math.max(index - 1, 0); i < Math.min(index + 1, items.size()); i++) {
+			TransportedItemStack other = items.get(i);
+			if (Math.abs(other.beltPosition - offset) >= SPACING)
+				continue;
+			merged |= merge(remainder, other.stack);
+			if (remainder.isEmpty())
+				break;
+		}
+
+		if (merged)
+			markChanged();
+		return remainder;
+	}
+
+	/**
+	 * Moves items from one stack into the other as far as they stack. Returns
+	 * whether anything was moved.
+	 */
+	protected static boolean merge(ItemStack from, ItemStack into) {
+		if (!ItemHandlerHelper.canItemStacksStack(from, into))
+			return false;
+		int amount = Math.min(from.getCount(), into.getMaxStackSize() - into.getCount());
+		if (amount <= 0)
+			return false;
+		into.grow(amount);
+		from.shrink(amount);
+		return true;
+	}
+
+	public void insert(TransportedItemStack stack) {
+		stack.prevBeltPosition = stack.beltPosition;
+		items.add(getInsertionIndex(stack.beltPosition), stack);
+		markChanged();
+	}
+
+	/**
+	 * Saves the change and sends it to clients with the next sync. Keeps the belt
+	 * awake until then.
+	 */
+	protected void markChanged() {
+		if (!belt.getWorld().isRemote)
+			needsSync = true;
+		belt.wakeUp();
+		belt.markDirty();
+	}
+
+	public boolean hasPendingSync() {
+		return needsSync;
+	}
+
+	/**
+	 * Index at which an item at the given offset keeps the items sorted.
+	 */
+	protected int getInsertionIndex(float offset) {
+		int low = 0;
+		int high = items.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (items.get(middle).beltPosition < offset)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+
+	/**
+	 * Hands every item between the two offsets to the given function. It returns
+	 * the items replacing the one it was given, or null to leave it as it is.
+	 */
+	public void processItemsBetween(float from, float to,
+			Function<TransportedItemStack, List<TransportedItemStack>> processFunction) {
+		boolean changed = false;
+		for (ListIterator<TransportedItemStack> iterator = items.listIterator(getInsertionIndex(from)); iterator
+				.hasNext();) {
+			TransportedItemStack transported = iterator.next();
+			if (transported.beltPosition >= to)
+				break;
+			List<TransportedItemStack> results = processFunction.apply(transported);
+			if (results == null)
+				continue;
+			iterator.remove();
+			results.forEach(iterator::add);
+			changed = true;
+		}
+		if (changed)
+			markChanged();
+	}
+
+	public List<ItemStack> takeItemsAt(int segment) {
+		List<ItemStack> taken = new ArrayList<>();
+		for (Iterator<TransportedItemStack> iterator = items.iterator(); iterator.hasNext();) {
+			TransportedItemStack stack = iterator.next();
+			if (getSegment(stack.beltPosition) != segment)
+				continue;
+			taken.add(stack.stack);
+			iterator.remove();
+		}
+		if (!taken.isEmpty())
+			markChanged();
+		return taken;
+	}
+
+	public void ejectAll() {
+		items.forEach(stack -> spawnEntity(stack, Vec3d.ZERO));
+		items.clear();
+		belt.markDirty();
+	}
+
+	protected boolean eject(TransportedItemStack stack, float speed) {
+		World world = belt.getWorld();
+		int length = belt.getBeltLength();
+		BlockPos nextPos = new BlockPos(getVectorForOffset(speed > 0 ? length + .5f : -.5f));
+		BlockState nextState = world.getBlockState(nextPos);
+		if (!AllBlocks.BELT.typeOf(nextState) && !nextState.getCollisionShape(world, nextPos).isEmpty())
+			return false;
+
+		stack.beltPosition = speed > 0 ? length : 0;
+		spawnEntity(stack, getMotion(speed));
+		return true;
+	}
+
+	protected void spawnEntity(TransportedItemStack stack, Vec3d motion) {
+		World world = belt.getWorld();
+		Vec3d position = getVectorForOffset(stack.beltPosition);
+		ItemEntity entity = new ItemEntity(world, position.x, position.y, position.z, stack.stack);
+		entity.setMotion(motion);
+		world.addEntity(entity);
+	}
+
+	protected BeltTileEntity getSegmentTE(int segment) {
+		TileEntity te = belt.getWorld().getTileEntity(belt.getPositionForSegment(segment));
+		return te instanceof BeltTileEntity ? (BeltTileEntity) te : null;
+	}
+
+	public int getSegment(float offset) {
+		return MathHelper.clamp((int) offset, 0, Math.max(belt.getBeltLength() - 1, 0));
+	}
+
+	/**
+	 * The point on top of the belt surface at the given offset from the start of
+	 * the belt.
+	 */
+	public Vec3d getVectorForOffset(float offset) {
+		BlockState state = belt.getBlockState();
+		Slope slope = state.get(BeltBlock.SLOPE);
+		Vec3i direction = state.get(BlockStateProperties.HORIZONTAL_FACING).getDirectionVec();
+		float along = offset - .5f;
+		float verticalMovement = slope == Slope.UPWARD ? along : slope == Slope.DOWNWARD ? -along : 0;
+		return VecHelper.getCenterOf(belt.getPos()).add(direction.getX() * along, verticalMovement + 5 / 16f,
+				direction.getZ() * along);
+	}
+
+	protected Vec3d getMotion(float speed) {
+		BlockState state = belt.getBlockState();
+		Slope slope = state.get(BeltBlock.SLOPE);
+		Vec3i direction = state.get(BlockStateProperties.HORIZONTAL_FACING).getDirectionVec();
+		float verticalMovement = slope == Slope.UPWARD ? speed : slope == Slope.DOWNWARD ? -speed : 0;
+		return new Vec3d(direction.getX() * speed, verticalMovement, direction.getZ() * speed);
+	}
+
+	public CompoundNBT write() {
+		CompoundNBT nbt = new CompoundNBT();
+		ListNBT list = new ListNBT();
+		items.forEach(stack -> list.add(stack.write()));
+		nbt.put("Items", list);
+		return nbt;
+	}
+
+	public void read(CompoundNBT nbt) {
+		items.clear();
+		nbt.getList("Items", 10).forEach(c -> {
+			TransportedItemStack stack = TransportedItemStack.read((CompoundNBT) c);
+			items.add(getInsertionIndex(stack.beltPosition), stack);
+		});
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.simibubi.create.modules.contraptions.relays.belt;
+
+import java.util.function.Supplier;
+
+import com.simibubi.create.foundation.packet.SimplePacketBase;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+
+/**
+ * Items carried by one belt controller, correcting what the client predicted.
+ * Leaves out everything else the controller would send with a tile update.
+ */
+public class BeltInventoryPacket extends SimplePacketBase {
+
+	private BlockPos controller;
+	private CompoundNBT inventory;
+
+	public BeltInventoryPacket(BeltTileEntity controller) {
+		this.controller = controller.getPos();
+		inventory = controller.getInventory().write();
+	}
+
+	public BeltInventoryPacket(PacketBuffer buffer) {
+		controller = buffer.readBlockPos();
+		inventory = buffer.readCompoundTag();
+	}
+
+	@Override
+	public void write(PacketBuffer buffer) {
+		buffer.writeBlockPos(controller);
+		buffer.writeCompoundTag(inventory);
+	}
+
+	@Override
+	public void handle(Supplier<Context> context) {
+		context.get().enqueueWork(() -> DistExecutor.runWhenOn(Dist.CLIENT, () -> () -> {
+			ClientWorld world = Minecraft.getInstance().world;
+			if (world == null || !world.isBlockLoaded(controller))
+				return;
+			TileEntity tileEntity = world.getTileEntity(controller);
+			if (!(tileEntity instanceof BeltTileEntity))
+				return;
+			BeltTileEntity belt = (BeltTileEntity) tileEntity;
+			belt.getInventory().read(inventory);
+			belt.wakeUp();
+		}));
+		context.get().setPacketHandled(true);
+	}
+
+}
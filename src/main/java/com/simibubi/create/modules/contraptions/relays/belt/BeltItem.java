@@ -102,6 +102,10 @@ public class BeltItem extends Item {
 					.with(BeltBlock.HORIZONTAL_FACING, facing), 3);
 			connectBelt(world, pos, start);
 		}
+
+		BeltTileEntity controller = (BeltTileEntity) world.getTileEntity(start);
+		if (controller != null)
+			controller.updateChain();
 	}
 
 	private Direction getFacingFromTo(BlockPos start, BlockPos end) {
@@ -0,0 +1,91 @@
+package com.simibubi.create.modules.contraptions.relays.belt;
+
+import net.minecraft.nbt.CompoundNBT;
+
+/**
+ * Throughput and congestion of one belt, kept on its controller. Events are
+ * counted over a minute of game time, and the last full minute is reported.
+ * Occupancy is integrated between samples, so ticks a belt spent asleep still
+ * count towards its average.
+ */
+public class BeltMetrics {
+
+	public static final int WINDOW = 1200;
+
+	protected long windowStart = -1;
+	protected long lastSample;
+	protected float lastOccupancy;
+	protected double occupancyTicks;
+	protected int delivered;
+	protected int stalls;
+	protected int collisions;
+
+	public int deliveredPerMinute;
+	public int stallsPerMinute;
+	public int collisionsPerMinute;
+	public float averageOccupancy;
+
+	public void onDelivered(int count) {
+		delivered += count;
+	}
+
+	public void onStall() {
+		stalls++;
+	}
+
+	public void onCollision() {
+		collisions++;
+	}
+
+	/**
+	 * Records the share of the belt occupied from now on, and closes the current
+	 * minute if it has passed.
+	 */
+	public void sample(long time, float occupancy) {
+		if (windowStart < 0 || time < lastSample) {
+			windowStart = time;
+			lastSample = time;
+		}
+
+		if (time - windowStart >= WINDOW) {
+			occupancyTicks += lastOccupancy * (windowStart + WINDOW - lastSample);
+			deliveredPerMinute = delivered;
+			stallsPerMinute = stalls;
+			collisionsPerMinute = collisions;
+			averageOccupancy = (float) (occupancyTicks / WINDOW);
+			delivered = stalls = collisions = 0;
+			occupancyTicks = 0;
+			windowStart += WINDOW;
+			lastSample = windowStart;
+
+			// Nothing happened during whole minutes the belt slept through
+			if (time - windowStart >= WINDOW) {
+				deliveredPerMinute = stallsPerMinute = collisionsPerMinute = 0;
+				averageOccupancy = lastOccupancy;
+				windowStart = time - (time - windowStart) % WINDOW;
+				lastSample = windowStart;
+			}
+		}
+
+		occupancyTicks += lastOccupancy * (time - lastSample);
+		lastSample = time;
+		lastOccupancy = occupancy;
+	}
+
+	public CompoundNBT write() {
+		CompoundNBT nbt = new CompoundNBT();
+		nbt.putInt("DeliveredPerMinute", deliveredPerMinute);
+		nbt.putInt("StallsPerMinute", stallsPerMinute);
+		nbt.putInt("CollisionsPerMinute", collisionsPerMinute);
+		nbt.putFloat("AverageOccupancy", averageOccupancy);
+		return nbt;
+	}
+
+	public void read(CompoundNBT nbt) {
+		deliveredPerMinute = nbt.getInt("DeliveredPerMinute");
+		stallsPerMinute = nbt.getInt("StallsPerMinute");
+		collisionsPerMinute = nbt.getInt("CollisionsPerMinute");
+		averageOccupancy = nbt.getFloat("AverageOccupancy");
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.simibubi.create.modules.contraptions.relays.belt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.simibubi.create.Create;
+
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.command.arguments.BlockPosArgument;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TranslationTextComponent;
+
+/**
+ * <code>/create belts [pos]</code> lists the metrics of the belt at the given
+ * position, or of the most crowded belts in the dimension.
+ */
+public class BeltMetricsCommand {
+
+	public static final int LISTED_BELTS = 10;
+
+	public static void register(CommandDispatcher<CommandSource> dispatcher) {
+		dispatcher.register(Commands.literal(Create.ID).then(Commands.literal("belts")
+				.requires(source -> source.hasPermissionLevel(2))
+				.then(Commands.argument("pos", BlockPosArgument.blockPos())
+						.executes(context -> reportBelt(context.getSource(),
+								BlockPosArgument.getLoadedBlockPos(context, "pos"))))
+				.executes(context -> reportCrowdedBelts(context.getSource()))));
+	}
+
+	private static int reportBelt(CommandSource source, BlockPos pos) {
+		TileEntity te = source.getWorld().getTileEntity(pos);
+		BeltTileEntity controller = te instanceof BeltTileEntity ? ((BeltTileEntity) te).getControllerTE() : null;
+		if (controller == null) {
+			source.sendErrorMessage(translate("notABelt"));
+			return 0;
+		}
+
+		controller.updateMetrics();
+		source.sendFeedback(describe(controller), false);
+		return 1;
+	}
+
+	private static int reportCrowdedBelts(CommandSource source) {
+		List<BeltTileEntity> controllers = new ArrayList<>();
+		for (TileEntity te : source.getWorld().loadedTileEntityList) {
+			if (!(te instanceof BeltTileEntity) || !((BeltTileEntity) te).isController())
+				continue;
+			BeltTileEntity controller = (BeltTileEntity) te;
+			controller.updateMetrics();
+			controllers.add(controller);
+		}
+
+		if (controllers.isEmpty()) {
+			source.sendErrorMessage(translate("noBelts"));
+			return 0;
+		}
+
+		controllers.sort(Comparator.comparingDouble(belt -> -belt.getMetrics().averageOccupancy));
+		source.sendFeedback(translate("header", controllers.size()), false);
+		for (int i = 0; i < Math.min(controllers.size(), LISTED_BELTS); i++)
+			source.sendFeedback(describe(controllers.get(i)), false);
+		return controllers.size();
+	}
+
+	private static TranslationTextComponent describe(BeltTileEntity controller) {
+		BeltMetrics metrics = controller.getMetrics();
+		BlockPos pos = controller.getPos();
+		return translate("belt", pos.getX(), pos.getY(), pos.getZ(), controller.getBeltLength(),
+				metrics.deliveredPerMinute, metrics.stallsPerMinute, metrics.collisionsPerMinute,
+				Math.round(metrics.averageOccupancy * 100));
+	}
+
+	private static TranslationTextComponent translate(String key, Object... args) {
+		return new TranslationTextComponent(Create.ID + ".command.belts." + key, args);
+	}
+
+}
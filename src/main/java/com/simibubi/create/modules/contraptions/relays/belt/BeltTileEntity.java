@@ -1,9 +1,12 @@
 package com.simibubi.create.modules.contraptions.relays.belt;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import com.simibubi.create.AllBlocks;
 import com.simibubi.create.AllTileEntities;
@@ -21,6 +24,7 @@ import net.minecraft.entity.MoverType;
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.DyeColor;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.NBTUtil;
 import net.minecraft.potion.EffectInstance;
@@ -33,30 +37,43 @@ import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.Direction.AxisDirection;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
-import net.minecraft.util.math.Vec3i;
 
 public class BeltTileEntity extends KineticTileEntity implements ITickableTileEntity {
 
 	protected BlockPos controller;
 	public Map<Entity, TransportedEntityInfo> passengers;
+	protected List<List<Entity>> passengersBySegment;
+	protected boolean sleeping;
+	protected BeltInventory inventory;
+	protected BeltMetrics metrics;
+	protected BlockPos[] chain;
+	protected Part[] parts;
+	protected BitSet attachedSegments;
+	protected PassengerMovement movement;
 	public AllBeltAttachments.Tracker attachmentTracker;
 	private CompoundNBT trackerUpdateTag;
+	private boolean attachmentsVerified;
 	public int color;
 
 	protected static class TransportedEntityInfo {
 		int ticksSinceLastCollision;
 		BlockPos lastCollidedPos;
 		BlockState lastCollidedState;
+		BeltTileEntity lastCollidedBelt;
+		int segment;
 
-		public TransportedEntityInfo(BlockPos collision, BlockState belt) {
-			refresh(collision, belt);
+		public TransportedEntityInfo(BeltTileEntity belt) {
+			refresh(belt);
 		}
 
-		public void refresh(BlockPos collision, BlockState belt) {
+		public void refresh(BeltTileEntity belt) {
 			ticksSinceLastCollision = 0;
-			lastCollidedPos = new BlockPos(collision).toImmutable();
-			lastCollidedState = belt;
+			lastCollidedPos = belt.getPos();
+			lastCollidedState = belt.getBlockState();
+			lastCollidedBelt = belt;
+			segment = belt.getSegment();
 		}
 
 		public TransportedEntityInfo tick() {
@@ -65,6 +82,55 @@ public class BeltTileEntity extends KineticTileEntity implements ITickableTileEn
 		}
 	}
 
+	/**
+	 * How passengers move along a controller's belt. Belts are straight and run at
+	 * one speed, so this is the same on every segment and only changes with the
+	 * speed or shape of the belt.
+	 */
+	protected static class PassengerMovement {
+		float speed;
+		boolean sloped;
+		Axis axis;
+		float movementX;
+		float movementZ;
+		float slopeMovement;
+		float centeringSpeed;
+		boolean ascending;
+		boolean descending;
+		Part lowerEnd;
+		Part upperEnd;
+
+		public PassengerMovement(BeltTileEntity controller) {
+			BlockState state = controller.getBlockState();
+			Direction beltFacing = state.get(BlockStateProperties.HORIZONTAL_FACING);
+			Slope slope = state.get(BeltBlock.SLOPE);
+			speed = controller.getSpeed();
+			sloped = slope != Slope.HORIZONTAL;
+			axis = beltFacing.getAxis();
+
+			float movementSpeed = speed / 1600f;
+			Direction movementDirection = Direction
+					.getFacingFromAxis(axis == Axis.X ? AxisDirection.NEGATIVE : AxisDirection.POSITIVE, axis);
+			movementX = movementDirection.getXOffset() * movementSpeed;
+			movementZ = movementDirection.getZOffset() * movementSpeed;
+			slopeMovement = Math.abs(movementSpeed);
+			centeringSpeed = Math.min(Math.abs(movementSpeed), .1f) * 4;
+
+			Direction movementFacing = Direction.getFacingFromAxisDirection(axis,
+					speed < 0 ? AxisDirection.POSITIVE : AxisDirection.NEGATIVE);
+			descending = sloped && slope == (movementFacing == beltFacing ? Slope.DOWNWARD : Slope.UPWARD);
+			ascending = sloped && slope == (movementFacing == beltFacing ? Slope.UPWARD : Slope.DOWNWARD);
+			if (axis == Axis.Z) {
+				boolean b = descending;
+				descending = ascending;
+				ascending = b;
+			}
+
+			lowerEnd = slope == Slope.UPWARD ? Part.END : Part.START;
+			upperEnd = slope == Slope.UPWARD ? Part.START : Part.END;
+		}
+	}
+
 	public BeltTileEntity() {
 		super(AllTileEntities.BELT.type);
 		controller = BlockPos.ZERO;
@@ -94,20 +160,68 @@ public class BeltTileEntity extends KineticTileEntity implements ITickableTileEn
 		compound.put("Controller", NBTUtil.writeBlockPos(controller));
 		compound.putInt("Color", color);
 		attachmentTracker.write(compound);
+		if (inventory != null)
+			compound.put("Inventory", inventory.write());
+		if (metrics != null)
+			compound.put("Metrics", metrics.write());
+		if (attachedSegments != null && !attachedSegments.isEmpty())
+			compound.putLongArray("AttachedSegments", attachedSegments.toLongArray());
+		if (chain != null) {
+			long[] positions = new long[chain.length];
+			byte[] partOrdinals = new byte[chain.length];
+			for (int i = 0; i < chain.length; i++) {
+				positions[i] = chain[i].toLong();
+				partOrdinals[i] = (byte) parts[i].ordinal();
+			}
+			compound.putLongArray("Chain", positions);
+			compound.putByteArray("Parts", partOrdinals);
+		}
 		return super.write(compound);
 	}
 
 	@Override
 	public void read(CompoundNBT compound) {
 		controller = NBTUtil.readBlockPos(compound.getCompound("Controller"));
-		trackerUpdateTag = compound;
+		trackerUpdateTag = attachmentTracker.read(compound) ? null : compound;
+		attachmentsVerified = trackerUpdateTag != null;
 		color = compound.getInt("Color");
+		sleeping = false;
+		attachedSegments = compound.contains("AttachedSegments")
+				? BitSet.valueOf(compound.getLongArray("AttachedSegments"))
+				: null;
+		chain = null;
+		parts = null;
+		movement = null;
+		if (compound.contains("Chain")) {
+			long[] positions = compound.getLongArray("Chain");
+			byte[] partOrdinals = compound.getByteArray("Parts");
+			chain = new BlockPos[positions.length];
+			parts = new Part[positions.length];
+			for (int i = 0; i < positions.length; i++) {
+				chain[i] = BlockPos.fromLong(positions[i]);
+				parts[i] = i < partOrdinals.length ? Part.values()[partOrdinals[i]] : Part.MIDDLE;
+			}
+		}
 		super.read(compound);
+		if (compound.contains("Inventory"))
+			getInventory().read(compound.getCompound("Inventory"));
+		if (compound.contains("Metrics") && getMetrics() != null)
+			getMetrics().read(compound.getCompound("Metrics"));
+	}
+
+	@Override
+	public CompoundNBT writeToClient(CompoundNBT tag) {
+		super.writeToClient(tag);
+		tag.remove("Metrics");
+		return tag;
 	}
 
 	public void applyColor(DyeColor colorIn) {
 		int colorValue = colorIn.getMapColor().colorValue;
-		for (BlockPos blockPos : BeltBlock.getBeltChain(world, getController())) {
+		TileEntity controllerTE = world.getTileEntity(getController());
+		if (!(controllerTE instanceof BeltTileEntity))
+			return;
+		for (BlockPos blockPos : ((BeltTileEntity) controllerTE).getChain()) {
 			BeltTileEntity tileEntity = (BeltTileEntity) world.getTileEntity(blockPos);
 			if (tileEntity != null) {
 				if (tileEntity.color == -1) {
@@ -132,6 +246,125 @@ public class BeltTileEntity extends KineticTileEntity implements ITickableTileEn
 		return controller.equals(pos);
 	}
 
+	public BeltInventory getInventory() {
+		if (!isController())
+			return null;
+		if (inventory == null)
+			inventory = new BeltInventory(this);
+		return inventory;
+	}
+
+	public BeltMetrics getMetrics() {
+		if (!isController())
+			return null;
+		if (metrics == null)
+			metrics = new BeltMetrics();
+		return metrics;
+	}
+
+	/**
+	 * Share of the belt taken up by carried stacks and passengers, where one stack
+	 * per segment counts as full.
+	 */
+	public float getOccupancy() {
+		int length = getBeltLength();
+		if (length == 0)
+			return 0;
+		int carried = (inventory == null ? 0 : inventory.items.size()) + (passengers == null ? 0 : passengers.size());
+		return Math.min(carried * BeltInventory.SPACING / length, 1);
+	}
+
+	/**
+	 * Brings the metrics of a controller up to date, it does not sample them while
+	 * asleep.
+	 */
+	public void updateMetrics() {
+		if (isController() && hasWorld())
+			getMetrics().sample(world.getGameTime(), getOccupancy());
+	}
+
+	/**
+	 * Positions of all segments of a controller's belt, walked once when the belt
+	 * is created and kept until it is removed. Belts cannot be extended or
+	 * shortened, so the chain never changes in between.
+	 */
+	public BlockPos[] getChain() {
+		if (!isController())
+			return new BlockPos[0];
+		if (chain == null && hasWorld())
+			updateChain();
+		return chain;
+	}
+
+	public void updateChain() {
+		List<BlockPos> positions = new ArrayList<>();
+		for (BlockPos segment : BeltBlock.getBeltChain(world, pos)) {
+			if (!AllBlocks.BELT.typeOf(world.getBlockState(segment)))
+				break;
+			positions.add(segment);
+		}
+
+		chain = positions.toArray(new BlockPos[positions.size()]);
+		movement = null;
+		parts = new Part[chain.length];
+		for (int i = 0; i < chain.length; i++)
+			parts[i] = world.getBlockState(chain[i]).get(BeltBlock.PART);
+
+		markDirty();
+		if (!world.isRemote)
+			sendData();
+	}
+
+	public int getBeltLength() {
+		BlockPos[] chain = getChain();
+		return chain == null ? 0 : chain.length;
+	}
+
+	public BlockPos getPositionForSegment(int segment) {
+		BlockPos[] chain = getChain();
+		if (chain == null || chain.length == 0)
+			return pos;
+		return chain[MathHelper.clamp(segment, 0, chain.length - 1)];
+	}
+
+	public Part getPartForSegment(int segment) {
+		if (getChain() == null || parts.length == 0)
+			return Part.MIDDLE;
+		return parts[MathHelper.clamp(segment, 0, parts.length - 1)];
+	}
+
+	public int getDistanceToEnd(int segment) {
+		return getBeltLength() - 1 - segment;
+	}
+
+	/**
+	 * Index of this segment counted from the controller.
+	 */
+	public int getSegment() {
+		BlockPos diff = pos.subtract(controller);
+		return Math.max(Math.abs(diff.getX()), Math.max(Math.abs(diff.getY()), Math.abs(diff.getZ())));
+	}
+
+	/**
+	 * Distance items on this belt travel towards its end per tick, negative if they
+	 * travel towards the controller.
+	 */
+	public float getBeltMovementSpeed() {
+		Direction facing = getBlockState().get(BlockStateProperties.HORIZONTAL_FACING);
+		float movementSpeed = getSpeed() / 1600f;
+		if (facing.getAxis() == Axis.X)
+			movementSpeed = -movementSpeed;
+		return movementSpeed * facing.getAxisDirection().getOffset();
+	}
+
+	@Override
+	public AxisAlignedBB getRenderBoundingBox() {
+		if (!isController() || getBeltLength() <= 1)
+			return super.getRenderBoundingBox();
+		BlockPos end = getPositionForSegment(getBeltLength() - 1);
+		return new AxisAlignedBB(pos, end).expand(1, 1, 1).grow(1);
+	}
+
 	public boolean hasPulley() {
 		if (!AllBlocks.BELT.typeOf(getBlockState()))
 			return false;
@@ -144,45 +377,182 @@ public class BeltTileEntity extends KineticTileEntity implements ITickableTileEn
 			attachmentTracker.readAndSearch(trackerUpdateTag, this);
 			trackerUpdateTag = null;
 		}
-		if (!isController())
+		if (world != null && !attachmentsVerified)
+			attachmentsVerified = attachmentTracker.verifyAttachments(world);
+		if (!isController() || sleeping)
 			return;
 		if (passengers == null)
 			passengers = new HashMap<>();
+		if (inventory != null)
+			inventory.tick();
+
+		if (!passengers.isEmpty()) {
+			sortPassengersBySegment();
+			int maxTicksWithoutCollision = getBlockState().get(BeltBlock.SLOPE) != Slope.HORIZONTAL ? 3 : 1;
+
+			for (Iterator<Entry<Entity, TransportedEntityInfo>> iterator = passengers.entrySet().iterator(); iterator
+					.hasNext();) {
+				Entry<Entity, TransportedEntityInfo> entry = iterator.next();
+				Entity entity = entry.getKey();
+				TransportedEntityInfo info = entry.getValue();
+				transportEntity(entity, info);
+
+				if (canTransport(entity) && info.ticksSinceLastCollision <= maxTicksWithoutCollision) {
+					info.tick();
+					continue;
+				}
+				if (entity instanceof ItemEntity)
+					((ItemEntity) entity).setAgeToCreativeDespawnTime();
+				iterator.remove();
+			}
+		}
 
-		passengers.forEach((entity, info) -> {
-			transportEntity(entity, info);
-		});
+		if (!world.isRemote)
+			updateMetrics();
+
+		// Nothing left to move, wait for something to land on the belt
+		if (passengers.isEmpty() && (inventory == null
+				|| (inventory.isEmpty() || speed == 0) && !inventory.hasPendingSync()))
+			sleeping = true;
+	}
+
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		if (!world.isRemote && trackerUpdateTag == null)
+			updateAttachmentIndex();
+	}
+
+	public boolean hasAttachmentsAt(int segment) {
+		return attachedSegments != null && attachedSegments.get(segment);
+	}
+
+	/**
+	 * Lets the controller know whether this segment has any attachments, so it
+	 * does not have to look at the segment for every item passing by.
+	 */
+	public void updateAttachmentIndex() {
+		if (!hasWorld() || !world.isBlockLoaded(controller))
+			return;
+		TileEntity te = world.getTileEntity(controller);
+		if (!(te instanceof BeltTileEntity))
+			return;
+
+		BeltTileEntity controllerTE = (BeltTileEntity) te;
+		boolean attached = !attachmentTracker.attachments.isEmpty();
+		int segment = getSegment();
+		if (controllerTE.hasAttachmentsAt(segment) == attached)
+			return;
+		if (controllerTE.attachedSegments == null)
+			controllerTE.attachedSegments = new BitSet();
+		controllerTE.attachedSegments.set(segment, attached);
+		controllerTE.markDirty();
+	}
+
+	public void wakeUp() {
+		sleeping = false;
+	}
+
+	public void wakeUpController() {
+		BeltTileEntity controllerTE = getControllerTE();
+		if (controllerTE != null)
+			controllerTE.wakeUp();
+	}
+
+	public BeltTileEntity getControllerTE() {
+		if (!hasWorld())
+			return null;
+		TileEntity te = world.getTileEntity(controller);
+		return te instanceof BeltTileEntity ? (BeltTileEntity) te : null;
+	}
+
+	/**
+	 * Whether stacks can be put on this segment directly. Items stay entities on
+	 * vertical belts and next to attachments which only handle entities.
+	 */
+	public boolean canTakeItems() {
+		if (getBlockState().get(BeltBlock.SLOPE) == Slope.VERTICAL)
+			return false;
+		return attachmentTracker.handlesItems() && getControllerTE() != null;
+	}
 
-		List<Entity> toRemove = new ArrayList<>();
+	public boolean canInsertItem(float along) {
+		if (!canTakeItems())
+			return false;
+		return getControllerTE().getInventory().canInsertAt(getSegment() + along);
+	}
+
+	/**
+	 * Hands a stack straight to the items carried by the controller, at the given
+	 * distance into this segment. Returns what did not fit.
+	 */
+	public ItemStack insertItem(ItemStack stack, float along) {
+		if (!canTakeItems())
+			return stack;
+
+		BeltInventory inventory = getControllerTE().getInventory();
+		float offset = getSegment() + along;
+		ItemStack remainder = inventory.mergeAt(stack, offset);
+		if (remainder.isEmpty() || !inventory.canInsertAt(offset))
+			return remainder;
+
+		TransportedItemStack transported = new TransportedItemStack(remainder);
+		transported.beltPosition = offset;
+		inventory.insert(transported);
+		return ItemStack.EMPTY;
+	}
+
+	@Override
+	public void setSpeed(float speed) {
+		if (speed != getSpeed())
+			sleeping = false;
+		super.setSpeed(speed);
+	}
+
+	/**
+	 * Buckets passengers by the segment they last touched, so only passengers on
+	 * nearby segments have to be checked for getting in each other's way.
+	 */
+	protected void sortPassengersBySegment() {
+		int length = Math.max(getBeltLength(), 1);
+		if (passengersBySegment == null || passengersBySegment.size() != length) {
+			passengersBySegment = new ArrayList<>(length);
+			for (int i = 0; i < length; i++)
+				passengersBySegment.add(new ArrayList<>(0));
+		}
+		passengersBySegment.forEach(List::clear);
 		passengers.forEach((entity, info) -> {
-			if (!canTransport(entity))
-				toRemove.add(entity);
-			if (info.ticksSinceLastCollision > ((getBlockState().get(BeltBlock.SLOPE) != Slope.HORIZONTAL) ? 3 : 1)) {
-				toRemove.add(entity);
-			}
-			info.tick();
-		});
-		toRemove.forEach(e -> {
-			if (e instanceof ItemEntity)
-				((ItemEntity) e).setAgeToCreativeDespawnTime();
-			passengers.remove(e);
+			passengersBySegment.get(MathHelper.clamp(info.segment, 0, length - 1)).add(entity);
 		});
+	}
 
-		if (speed == 0)
-			return;
+	protected boolean isBlockedByPassenger(Entity entityIn, int segment, double minX, double minY, double minZ,
+			double maxX, double maxY, double maxZ) {
+		for (int i = Math.max(segment - 1, 0); i <= Math.min(segment + 1, passengersBySegment.size() - 1); i++)
+			for (Entity other : passengersBySegment.get(i))
+				if (other != entityIn && other.getBoundingBox().intersects(minX, minY, minZ, maxX, maxY, maxZ))
+					return true;
+		return false;
+	}
+
+	protected PassengerMovement getPassengerMovement() {
+		if (movement == null || movement.speed != getSpeed())
+			movement = new PassengerMovement(this);
+		return movement;
 	}
 
 	public void transportEntity(Entity entityIn, TransportedEntityInfo info) {
 		BlockPos pos = info.lastCollidedPos;
-		TileEntity te = world.getTileEntity(pos);
-		TileEntity tileEntityBelowPassenger = world.getTileEntity(entityIn.getPosition());
-		BlockState blockState = info.lastCollidedState;
-		Direction movementFacing = Direction.getFacingFromAxisDirection(
-				blockState.get(BlockStateProperties.HORIZONTAL_FACING).getAxis(),
-				speed < 0 ? AxisDirection.POSITIVE : AxisDirection.NEGATIVE);
+		BeltTileEntity te = info.lastCollidedBelt;
+		PassengerMovement movement = getPassengerMovement();
 
-		boolean collidedWithBelt = te instanceof BeltTileEntity;
-		boolean betweenBelts = tileEntityBelowPassenger instanceof BeltTileEntity && tileEntityBelowPassenger != te;
+		boolean collidedWithBelt = !te.isRemoved();
+		boolean betweenBelts = false;
+		int x = MathHelper.floor(entityIn.posX);
+		int y = MathHelper.floor(entityIn.posY);
+		int z = MathHelper.floor(entityIn.posZ);
+		if (x != pos.getX() || y != pos.getY() || z != pos.getZ())
+			betweenBelts = AllBlocks.BELT.typeOf(world.getBlockState(new BlockPos(x, y, z)));
 
 		// Don't fight other Belts
 		if (!collidedWithBelt || betweenBelts) {
@@ -190,8 +560,7 @@ public class BeltTileEntity extends KineticTileEntity implements ITickableTileEn
 		}
 
 		// Too slow
-		boolean notHorizontal = getBlockState().get(BeltBlock.SLOPE) != Slope.HORIZONTAL;
-		if (Math.abs(getSpeed()) < (notHorizontal ? 32 : 1))
+		if (Math.abs(getSpeed()) < (movement.sloped ? 32 : 1))
 			return;
 
 		// Not on top
@@ -203,96 +572,92 @@ public class BeltTileEntity extends KineticTileEntity implements ITickableTileEn
 			((LivingEntity) entityIn).addPotionEffect(new EffectInstance(Effects.SLOWNESS, 1, 9, false, false));
 		}
 
-		BeltTileEntity belt = (BeltTileEntity) te;
+		BeltTileEntity belt = te;
 
 		// Attachment pauses movement
-		for (BeltAttachmentState state : belt.attachmentTracker.attachments) {
+		for (BeltAttachmentState state : belt.attachmentTracker.attachments.values()) {
 			if (state.attachment.handleEntity(belt, entityIn, state)) {
 				info.ticksSinceLastCollision--;
+				if (!world.isRemote) {
+					getMetrics().onStall();
+					if (!entityIn.isAlive() && entityIn instanceof ItemEntity)
+						getMetrics().onDelivered(((ItemEntity) entityIn).getItem().getCount());
+				}
 				return;
 			}
 		}
 
-		final Direction beltFacing = blockState.get(BlockStateProperties.HORIZONTAL_FACING);
-		final Slope slope = blockState.get(BeltBlock.SLOPE);
-		final Axis axis = beltFacing.getAxis();
-		float movementSpeed = ((KineticTileEntity) te).getSpeed() / 1600f;
-		final Direction movementDirection = Direction
-				.getFacingFromAxis(axis == Axis.X ? AxisDirection.NEGATIVE : AxisDirection.POSITIVE, axis);
-
-		Vec3i centeringDirection = Direction.getFacingFromAxis(AxisDirection.POSITIVE, axis == Axis.X ? Axis.Z : Axis.X)
-				.getDirectionVec();
-		Vec3d movement = new Vec3d(movementDirection.getDirectionVec()).scale(movementSpeed);
-
+		Axis axis = movement.axis;
 		double diffCenter = axis == Axis.Z ? (pos.getX() + .5f - entityIn.posX) : (pos.getZ() + .5f - entityIn.posZ);
 		float maxDiffCenter = (entityIn instanceof ItemEntity) ? 32 / 64f : 48 / 64f;
 		if (Math.abs(diffCenter) > maxDiffCenter)
 			return;
 
-		Part part = blockState.get(BeltBlock.PART);
+		Part part = info.lastCollidedState.get(BeltBlock.PART);
 		float top = 13 / 16f;
-		boolean onSlope = notHorizontal && (part == Part.MIDDLE
-				|| part == (slope == Slope.UPWARD ? Part.END : Part.START) && entityIn.posY - pos.getY() < top
-				|| part == (slope == Slope.UPWARD ? Part.START : Part.END) && entityIn.posY - pos.getY() > top);
+		double height = entityIn.posY - pos.getY();
+		boolean onSlope = movement.sloped && (part == Part.MIDDLE || part == movement.lowerEnd && height < top
+				|| part == movement.upperEnd && height > top);
+		boolean movingUp = onSlope && movement.ascending;
+		boolean movingDown = onSlope && movement.descending;
 
-		boolean movingDown = onSlope && slope == (movementFacing == beltFacing ? Slope.DOWNWARD : Slope.UPWARD);
-		boolean movingUp = onSlope && slope == (movementFacing == beltFacing ? Slope.UPWARD : Slope.DOWNWARD);
-
-		if (beltFacing.getAxis() == Axis.Z) {
-			boolean b = movingDown;
-			movingDown = movingUp;
-			movingUp = b;
-		}
-
-		if (movingUp)
-			movement = movement.add(0, Math.abs(axis.getCoordinate(movement.x, movement.y, movement.z)), 0);
-		if (movingDown)
-			movement = movement.add(0, -Math.abs(axis.getCoordinate(movement.x, movement.y, movement.z)), 0);
-
-		Vec3d centering = new Vec3d(centeringDirection).scale(diffCenter * Math.min(Math.abs(movementSpeed), .1f) * 4);
-		movement = movement.add(centering);
+		double centering = diffCenter * movement.centeringSpeed;
+		double movementX = movement.movementX + (axis == Axis.Z ? centering : 0);
+		double movementY = movingUp ? movement.slopeMovement : movingDown ? -movement.slopeMovement : 0;
+		double movementZ = movement.movementZ + (axis == Axis.X ? centering : 0);
 
 		float step = entityIn.stepHeight;
 		if (!(entityIn instanceof PlayerEntity))
 			entityIn.stepHeight = 1;
 
 		// Entity Collisions
-		if (Math.abs(movementSpeed) < .5f) {
-			Vec3d checkDistance = movement.scale(2f).add(movement.normalize());
+		if (movement.slopeMovement < .5f) {
+			double length = Math.sqrt(movementX * movementX + movementY * movementY + movementZ * movementZ);
+			double scale = length < 1.0E-4D ? 2 : 2 + 1 / length;
+			double checkX = movementX * scale;
+			double checkY = movementY * scale;
+			double checkZ = movementZ * scale;
 			AxisAlignedBB bb = entityIn.getBoundingBox();
-			AxisAlignedBB checkBB = new AxisAlignedBB(bb.minX, bb.minY, bb.minZ, bb.maxX, bb.maxY, bb.maxZ);
-			if (!world
-					.getEntitiesWithinAABBExcludingEntity(entityIn, checkBB.offset(checkDistance)
-							.grow(-Math.abs(checkDistance.x), -Math.abs(checkDistance.y), -Math.abs(checkDistance.z)))
-					.isEmpty()) {
+			if (isBlockedByPassenger(entityIn, info.segment, bb.minX + checkX + Math.abs(checkX),
+					bb.minY + checkY + Math.abs(checkY), bb.minZ + checkZ + Math.abs(checkZ),
+					bb.maxX + checkX - Math.abs(checkX), bb.maxY + checkY - Math.abs(checkY),
+					bb.maxZ + checkZ - Math.abs(checkZ))) {
 				entityIn.setMotion(0, 0, 0);
 				info.ticksSinceLastCollision--;
+				if (!world.isRemote)
+					getMetrics().onCollision();
+				if (!(entityIn instanceof PlayerEntity))
+					entityIn.stepHeight = step;
 				return;
 			}
 		}
 
+		// Entity.move only takes vectors, slopes move along and across separately
 		if (movingUp) {
 			float minVelocity = entityIn instanceof ItemEntity ? .09f : .13f;
-			float yMovement = (float) -(Math.max(Math.abs(movement.y), minVelocity));
+			float yMovement = (float) -(Math.max(Math.abs(movementY), minVelocity));
 			entityIn.move(MoverType.SELF, new Vec3d(0, yMovement, 0));
-			entityIn.move(MoverType.SELF, movement.mul(1, 0, 1));
+			entityIn.move(MoverType.SELF, new Vec3d(movementX, 0, movementZ));
 		} else if (movingDown) {
-			entityIn.move(MoverType.SELF, movement.mul(1, 0, 1));
-			entityIn.move(MoverType.SELF, movement.mul(0, 1, 0));
+			entityIn.move(MoverType.SELF, new Vec3d(movementX, 0, movementZ));
+			entityIn.move(MoverType.SELF, new Vec3d(0, movementY, 0));
 		} else {
-			entityIn.move(MoverType.SELF, movement);
+			entityIn.move(MoverType.SELF, new Vec3d(movementX, movementY, movementZ));
 		}
 
 		if (!(entityIn instanceof PlayerEntity))
 			entityIn.stepHeight = step;
 
-		boolean movedPastEndingSlope = onSlope && (AllBlocks.BELT.typeOf(world.getBlockState(entityIn.getPosition()))
-				|| AllBlocks.BELT.typeOf(world.getBlockState(entityIn.getPosition().down())));
+		if (!onSlope)
+			return;
+
+		boolean movedPastEndingSlope = AllBlocks.BELT.typeOf(world.getBlockState(entityIn.getPosition()))
+				|| AllBlocks.BELT.typeOf(world.getBlockState(entityIn.getPosition().down()));
 
-		if (movedPastEndingSlope && !movingDown && Math.abs(movementSpeed) > 0)
-			entityIn.setPosition(entityIn.posX, entityIn.posY + movement.y, entityIn.posZ);
+		if (movedPastEndingSlope && !movingDown && movement.slopeMovement > 0)
+			entityIn.setPosition(entityIn.posX, entityIn.posY + movementY, entityIn.posZ);
 		if (movedPastEndingSlope)
-			entityIn.setMotion(movement);
+			entityIn.setMotion(movementX, movementY, movementZ);
 	}
 
 	public boolean canTransport(Entity entity) {
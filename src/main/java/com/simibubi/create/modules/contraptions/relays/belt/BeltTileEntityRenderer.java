@@ -1,10 +1,18 @@
 package com.simibubi.create.modules.contraptions.relays.belt;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.simibubi.create.AllBlocks;
+import com.mojang.blaze3d.platform.GLX;
+import com.mojang.blaze3d.platform.GlStateManager;
 import com.simibubi.create.Create;
+import com.simibubi.create.CreateClientConfig;
 import com.simibubi.create.foundation.utility.BufferManipulator;
+import com.simibubi.create.foundation.utility.TessellatorHelper;
 import com.simibubi.create.modules.contraptions.base.IRotate;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntity;
 import com.simibubi.create.modules.contraptions.base.KineticTileEntityRenderer;
@@ -12,23 +20,40 @@ import com.simibubi.create.modules.contraptions.base.KineticTileEntityRenderer;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.ItemRenderer;
+import net.minecraft.client.renderer.RenderHelper;
+import net.minecraft.client.renderer.model.ItemCameraTransforms.TransformType;
 import net.minecraft.client.renderer.texture.AtlasTexture;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.util.Direction;
 import net.minecraft.util.ResourceLocation;
-import net.minecraftforge.client.model.animation.Animation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
 
+@SuppressWarnings("deprecation")
 public class BeltTileEntityRenderer extends KineticTileEntityRenderer {
 
-	protected static class BeltModelAnimator extends BufferManipulator {
+	// Fast renderers cannot draw items, belts carrying any are collected here
+	protected static List<BeltTileEntity> controllersWithItems = new ArrayList<>();
+
+	public static class BeltModelAnimator extends BufferManipulator {
 		protected static TextureAtlasSprite beltTextures;
 		protected static TextureAtlasSprite originalTexture;
 
+		// Frames 0 to 15 of the scrolling texture, and the unscrolled texture last
+		protected static final int FRAMES = 16;
+		protected static final int STILL = FRAMES;
+
+		// Recoloured copies of the model with the texture scrolled to each frame, by
+		// colour. Positions are untranslated and light is applied when rendering.
+		protected Map<Integer, ByteBuffer[]> cachedFrames;
+
 		public BeltModelAnimator(ByteBuffer template) {
 			super(template);
-			if (beltTextures == null)
-				initSprites();
+			cachedFrames = new HashMap<>();
 		}
 
 		private void initSprites() {
@@ -37,31 +62,71 @@ public class BeltTileEntityRenderer extends KineticTileEntityRenderer {
 			beltTextures = textureMap.getSprite(new ResourceLocation(Create.ID, "block/belt_animated"));
 		}
 
-		public ByteBuffer getTransformed(BeltTileEntity te, float x, float y, float z, int color) {
-			original.rewind();
-			mutable.rewind();
+		public ByteBuffer getTransformed(BeltTileEntity te, float x, float y, float z, int color, float time,
+				int packedLightCoords) {
+			int frame = getAnimationFrame(te, time);
+			ByteBuffer animated = getFrame(color, frame);
+			if (animated == null) {
+				animate(mutable, color, frame);
+				animated = mutable;
+			}
+			return translate(animated, x, y, z, packedLightCoords);
+		}
+
+		protected int getAnimationFrame(BeltTileEntity te, float time) {
+			if (te.getSpeed() == 0)
+				return STILL;
+			Direction direction = te.getBlockState().get(BlockStateProperties.HORIZONTAL_FACING);
+			if (direction == Direction.EAST || direction == Direction.NORTH)
+				time = -time;
+			int textureIndex = (int) ((te.getSpeed() * time / 8) % FRAMES);
+			if (textureIndex < 0)
+				textureIndex += FRAMES;
+			return textureIndex;
+		}
 
-			float textureOffsetX = 0;
-			float textureOffsetY = 0;
-
-			if (te.getSpeed() != 0) {
-				float time = Animation.getWorldTime(Minecraft.getInstance().world,
-						Minecraft.getInstance().getRenderPartialTicks());
-				Direction direction = te.getBlockState().get(BlockStateProperties.HORIZONTAL_FACING);
-				if (direction == Direction.EAST || direction == Direction.NORTH)
-					time = -time;
-				int textureIndex = (int) ((te.getSpeed() * time / 8) % 16);
-				if (textureIndex < 0)
-					textureIndex += 16;
-
-				textureOffsetX = beltTextures.getInterpolatedU((textureIndex % 4) * 4) - originalTexture.getMinU();
-				textureOffsetY = beltTextures.getInterpolatedV((textureIndex / 4) * 4) - originalTexture.getMinV();
+		/**
+		 * Looks up the model animated to the given frame in the given colour. Returns
+		 * null if the cache memory is used up, the model is then animated every frame
+		 * instead.
+		 */
+		protected ByteBuffer getFrame(int color, int frame) {
+			ByteBuffer[] frames = cachedFrames.get(color);
+			if (frames != null && frames[frame] != null)
+				return frames[frame];
+
+			long size = original.limit();
+			long cap = CreateClientConfig.instance.rotationCacheMemory.get() * 1024L * 1024L;
+			if (cachedRotationBytes + size > cap)
+				return null;
+
+			if (frames == null) {
+				frames = new ByteBuffer[FRAMES + 1];
+				cachedFrames.put(color, frames);
 			}
+			frames[frame] = createFrame(color, frame);
+			cachedRotationBytes += size;
+			return frames[frame];
+		}
+
+		protected ByteBuffer createFrame(int color, int frame) {
+			original.rewind();
+			ByteBuffer buffer = GLAllocation.createDirectByteBuffer(original.capacity());
+			buffer.order(original.order());
+			buffer.limit(original.limit());
+			buffer.put(original);
+			buffer.rewind();
+			animate(buffer, color, frame);
+			return buffer;
+		}
 
-			final BlockState blockState = te.getBlockState();
-			int packedLightCoords = blockState.getPackedLightmapCoords(te.getWorld(), te.getPos());
-			float texOffX = textureOffsetX;
-			float texOffY = textureOffsetY;
+		/**
+		 * Scrolls the texture and tints every vertex of the model into the target.
+		 * Positions and light are left untouched.
+		 */
+		protected void animate(ByteBuffer target, int color, int frame) {
+			float texOffX = getTextureOffsetU(frame);
+			float texOffY = getTextureOffsetV(frame);
 
 			boolean defaultColor = color == -1;
 			int b = defaultColor ? 128 : color & 0xFF;
@@ -69,13 +134,9 @@ public class BeltTileEntityRenderer extends KineticTileEntityRenderer {
 			int r = defaultColor ? 128 : (color >> 16) & 0xFF;
 
 			for (int vertex = 0; vertex < vertexCount(original); vertex++) {
-				putPos(mutable, vertex, getX(original, vertex) + x, getY(original, vertex) + y,
-						getZ(original, vertex) + z);
-				putLight(mutable, vertex, packedLightCoords);
-
 				int bufferPosition = getBufferPosition(vertex);
-				mutable.putFloat(bufferPosition + 16, original.getFloat(bufferPosition + 16) + texOffX);
-				mutable.putFloat(bufferPosition + 20, original.getFloat(bufferPosition + 20) + texOffY);
+				target.putFloat(bufferPosition + 16, original.getFloat(bufferPosition + 16) + texOffX);
+				target.putFloat(bufferPosition + 20, original.getFloat(bufferPosition + 20) + texOffY);
 
 				byte lumByte = getR(original, vertex);
 				float lum = (lumByte < 0 ? 255 + lumByte : lumByte) / 256f;
@@ -83,11 +144,47 @@ public class BeltTileEntityRenderer extends KineticTileEntityRenderer {
 				int r2 = (int) (r * lum);
 				int g2 = (int) (g * lum);
 				int b2 = (int) (b * lum);
-				putColor(mutable, vertex, (byte) r2, (byte) g2, (byte) b2, (byte) 255);
+				putColor(target, vertex, (byte) r2, (byte) g2, (byte) b2, (byte) 255);
+			}
+		}
+
+		/**
+		 * Copies an animated model into the output buffer, moved to the given
+		 * position and lit.
+		 */
+		protected ByteBuffer translate(ByteBuffer animated, float x, float y, float z, int packedLightCoords) {
+			original.rewind();
+			mutable.rewind();
+			if (animated != mutable) {
+				animated.rewind();
+				mutable.put(animated);
+				mutable.rewind();
+			}
+
+			for (int vertex = 0; vertex < vertexCount(original); vertex++) {
+				putPos(mutable, vertex, getX(original, vertex) + x, getY(original, vertex) + y,
+						getZ(original, vertex) + z);
+				putLight(mutable, vertex, packedLightCoords);
 			}
 
 			return mutable;
 		}
+
+		protected float getTextureOffsetU(int frame) {
+			if (frame == STILL)
+				return 0;
+			if (beltTextures == null)
+				initSprites();
+			return beltTextures.getInterpolatedU((frame % 4) * 4) - originalTexture.getMinU();
+		}
+
+		protected float getTextureOffsetV(int frame) {
+			if (frame == STILL)
+				return 0;
+			if (beltTextures == null)
+				initSprites();
+			return beltTextures.getInterpolatedV((frame / 4) * 4) - originalTexture.getMinV();
+		}
 	}
 
 	@Override
@@ -99,7 +196,49 @@ public class BeltTileEntityRenderer extends KineticTileEntityRenderer {
 			super.renderTileEntityFast(te, x, y, z, partialTicks, destroyStage, buffer);
 
 		cacheIfMissing(beltEntity.getBlockState(), BeltModelAnimator::new);
-		renderBeltFromCache(beltEntity, (float) x, (float) y, (float) z, buffer);
+		float time = getRenderTime(x, y, z, Minecraft.getInstance().getRenderPartialTicks());
+		renderBeltFromCache(beltEntity, (float) x, (float) y, (float) z, time, getPackedLight(te, x, y, z), buffer);
+
+		BeltInventory inventory = beltEntity.getInventory();
+		if (inventory != null && !inventory.isEmpty())
+			controllersWithItems.add(beltEntity);
+	}
+
+	public static void renderItems(float partialTicks) {
+		if (controllersWithItems.isEmpty())
+			return;
+
+		Minecraft mc = Minecraft.getInstance();
+		ItemRenderer itemRenderer = mc.getItemRenderer();
+		TessellatorHelper.prepareForDrawing();
+		RenderHelper.enableStandardItemLighting();
+
+		for (BeltTileEntity te : controllersWithItems) {
+			BeltInventory inventory = te.getInventory();
+			if (te.isRemoved() || inventory == null)
+				continue;
+
+			for (TransportedItemStack stack : inventory.items) {
+				float offset = MathHelper.lerp(partialTicks, stack.prevBeltPosition, stack.beltPosition);
+				Vec3d position = inventory.getVectorForOffset(offset);
+				boolean blockItem = itemRenderer.getModelWithOverrides(stack.stack).isGui3d();
+
+				int light = mc.world.getCombinedLight(new BlockPos(position), 0);
+				GLX.glMultiTexCoord2f(GLX.GL_TEXTURE1, light % 65536, light / 65536);
+
+				GlStateManager.pushMatrix();
+				GlStateManager.translated(position.x, position.y + (blockItem ? 1 / 8f : 1 / 32f), position.z);
+				if (!blockItem)
+					GlStateManager.rotatef(90, 1, 0, 0);
+				GlStateManager.scaled(.5, .5, .5);
+				itemRenderer.renderItem(stack.stack, TransformType.FIXED);
+				GlStateManager.popMatrix();
+			}
+		}
+
+		RenderHelper.disableStandardItemLighting();
+		TessellatorHelper.cleanUpAfterDrawing();
+		controllersWithItems.clear();
 	}
 
 	@Override
@@ -108,8 +247,9 @@ public class BeltTileEntityRenderer extends KineticTileEntityRenderer {
 				((IRotate) AllBlocks.BELT.get()).getRotationAxis(te.getBlockState()));
 	}
 
-	public void renderBeltFromCache(BeltTileEntity te, float x, float y, float z, BufferBuilder buffer) {
-		buffer.putBulkData(
-				((BeltModelAnimator) cachedBuffers.get(te.getBlockState())).getTransformed(te, x, y, z, te.color));
+	public void renderBeltFromCache(BeltTileEntity te, float x, float y, float z, float time, int packedLightCoords,
+			BufferBuilder buffer) {
+		buffer.putBulkData(((BeltModelAnimator) cachedBuffers.get(te.getBlockState())).getTransformed(te, x, y, z,
+				te.color, time, packedLightCoords));
 	}
 }
@@ -0,0 +1,42 @@
+package com.simibubi.create.modules.contraptions.relays.belt;
+
+import com.simibubi.create.modules.logistics.InWorldProcessing;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+
+public class TransportedItemStack {
+
+	public ItemStack stack;
+	public float beltPosition;
+	public float prevBeltPosition;
+	public InWorldProcessing.Type processedBy;
+	public int processingTime;
+
+	public TransportedItemStack(ItemStack stack) {
+		this.stack = stack;
+	}
+
+	public CompoundNBT write() {
+		CompoundNBT nbt = new CompoundNBT();
+		nbt.put("Item", stack.write(new CompoundNBT()));
+		nbt.putFloat("Position", beltPosition);
+		if (processedBy != null) {
+			nbt.putString("ProcessedBy", processedBy.name());
+			nbt.putInt("ProcessingTime", processingTime);
+		}
+		return nbt;
+	}
+
+	public static TransportedItemStack read(CompoundNBT nbt) {
+		TransportedItemStack stack = new TransportedItemStack(ItemStack.read(nbt.getCompound("Item")));
+		stack.beltPosition = nbt.getFloat("Position");
+		stack.prevBeltPosition = stack.beltPosition;
+		if (nbt.contains("ProcessedBy")) {
+			stack.processedBy = InWorldProcessing.Type.valueOf(nbt.getString("ProcessedBy"));
+			stack.processingTime = nbt.getInt("ProcessingTime");
+		}
+		return stack;
+	}
+
+}
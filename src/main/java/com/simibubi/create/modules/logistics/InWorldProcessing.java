@@ -8,6 +8,7 @@ import com.simibubi.create.AllRecipes;
 import com.simibubi.create.CreateConfig;
 import com.simibubi.create.foundation.utility.ItemHelper;
 import com.simibubi.create.modules.contraptions.receivers.SplashingRecipe;
+import com.simibubi.create.modules.contraptions.relays.belt.TransportedItemStack;
 
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.item.ItemStack;
@@ -40,12 +41,19 @@ public class InWorldProcessing {
 	}
 
 	public static boolean canProcess(ItemEntity entity, Type type) {
-		World world = entity.world;
-
 		if (entity.getPersistentData().contains("CreateData")
 				&& entity.getPersistentData().getCompound("CreateData").contains("Processing"))
 			return true;
+		return canProcess(entity.getItem(), type, entity.world);
+	}
 
+	public static boolean canProcess(TransportedItemStack transported, Type type, World world) {
+		if (transported.processedBy != null)
+			return true;
+		return canProcess(transported.stack, type, world);
+	}
+
+	public static boolean canProcess(ItemStack stack, Type type, World world) {
 		if (type == Type.BLASTING) {
 			return true;
 		}
@@ -53,13 +61,13 @@ public class InWorldProcessing {
 		if (type == Type.SMOKING) {
 			SmokerTileEntity smoker = new SmokerTileEntity();
 			smoker.setWorld(world);
-			smoker.setInventorySlotContents(0, entity.getItem());
+			smoker.setInventorySlotContents(0, stack);
 			Optional<SmokingRecipe> recipe = world.getRecipeManager().getRecipe(IRecipeType.SMOKING, smoker, world);
 			return recipe.isPresent();
 		}
 
 		if (type == Type.SPLASHING) {
-			splashingInv.setInventorySlotContents(0, entity.getItem());
+			splashingInv.setInventorySlotContents(0, stack);
 			Optional<SplashingRecipe> recipe = world.getRecipeManager().getRecipe(AllRecipes.Types.SPLASHING,
 					splashingInv, world);
 			return recipe.isPresent();
@@ -69,58 +77,98 @@ public class InWorldProcessing {
 	}
 
 	public static void process(ItemEntity entity, Type type) {
-		World world = entity.world;
 		if (decrementProcessingTime(entity, type) != 0)
 			return;
 
+		List<ItemStack> stacks = process(entity.getItem(), type, entity.world);
+		if (stacks == null)
+			return;
+		if (stacks.isEmpty()) {
+			entity.remove();
+			return;
+		}
+		entity.setItem(stacks.remove(0));
+		for (ItemStack additional : stacks) {
+			ItemEntity entityIn = new ItemEntity(entity.world, entity.posX, entity.posY, entity.posZ, additional);
+			entityIn.setMotion(entity.getMotion());
+			entity.world.addEntity(entityIn);
+		}
+	}
+
+	/**
+	 * Processes a stack carried by a belt. Returns the stacks replacing it once
+	 * processing is done, or null while it is still going.
+	 */
+	public static List<TransportedItemStack> applyProcessing(TransportedItemStack transported, World world,
+			Type type) {
+		if (transported.processedBy != type) {
+			transported.processedBy = type;
+			transported.processingTime = CreateConfig.parameters.inWorldProcessingTime.get() + 1;
+		}
+		if (--transported.processingTime != 0)
+			return null;
+
+		List<ItemStack> stacks = process(transported.stack, type, world);
+		if (stacks == null)
+			return null;
+
+		List<TransportedItemStack> transportedStacks = new ArrayList<>();
+		for (ItemStack stack : stacks) {
+			TransportedItemStack result = new TransportedItemStack(stack);
+			result.beltPosition = transported.beltPosition;
+			result.prevBeltPosition = transported.prevBeltPosition;
+			transportedStacks.add(result);
+		}
+		return transportedStacks;
+	}
+
+	/**
+	 * The stacks the given stack turns into, an empty list if it is destroyed, or
+	 * null if nothing happens to it.
+	 */
+	private static List<ItemStack> process(ItemStack stack, Type type, World world) {
 		if (type == Type.SPLASHING) {
-			splashingInv.setInventorySlotContents(0, entity.getItem());
+			splashingInv.setInventorySlotContents(0, stack);
 			Optional<SplashingRecipe> recipe = world.getRecipeManager().getRecipe(AllRecipes.Types.SPLASHING,
 					splashingInv, world);
 			if (recipe.isPresent())
-				applyRecipeOn(entity, recipe.get());
-			return;
+				return applyRecipeOn(stack, recipe.get());
+			return null;
 		}
 
 		SmokerTileEntity smoker = new SmokerTileEntity();
 		smoker.setWorld(world);
-		smoker.setInventorySlotContents(0, entity.getItem());
+		smoker.setInventorySlotContents(0, stack);
 		Optional<SmokingRecipe> smokingRecipe = world.getRecipeManager().getRecipe(IRecipeType.SMOKING, smoker, world);
 
 		if (type == Type.BLASTING) {
 			FurnaceTileEntity furnace = new FurnaceTileEntity();
 			furnace.setWorld(world);
-			furnace.setInventorySlotContents(0, entity.getItem());
+			furnace.setInventorySlotContents(0, stack);
 			Optional<FurnaceRecipe> smeltingRecipe = world.getRecipeManager().getRecipe(IRecipeType.SMELTING, furnace,
 					world);
 
 			if (!smokingRecipe.isPresent()) {
-				if (smeltingRecipe.isPresent()) {
-					applyRecipeOn(entity, smeltingRecipe.get());
-					return;
-				}
+				if (smeltingRecipe.isPresent())
+					return applyRecipeOn(stack, smeltingRecipe.get());
 
 				BlastFurnaceTileEntity blastFurnace = new BlastFurnaceTileEntity();
 				blastFurnace.setWorld(world);
-				blastFurnace.setInventorySlotContents(0, entity.getItem());
+				blastFurnace.setInventorySlotContents(0, stack);
 				Optional<BlastingRecipe> blastingRecipe = world.getRecipeManager().getRecipe(IRecipeType.BLASTING,
 						blastFurnace, world);
 
-				if (blastingRecipe.isPresent()) {
-					applyRecipeOn(entity, blastingRecipe.get());
-					return;
-				}
+				if (blastingRecipe.isPresent())
+					return applyRecipeOn(stack, blastingRecipe.get());
 			}
 
-			entity.remove();
-			return;
+			return new ArrayList<>();
 		}
 
-		if (type == Type.SMOKING && smokingRecipe.isPresent()) {
-			applyRecipeOn(entity, smokingRecipe.get());
-			return;
-		}
+		if (type == Type.SMOKING && smokingRecipe.isPresent())
+			return applyRecipeOn(stack, smokingRecipe.get());
 
+		return null;
 	}
 
 	private static int decrementProcessingTime(ItemEntity entity, Type type) {
@@ -145,11 +193,25 @@ public class InWorldProcessing {
 	}
 
 	public static void applyRecipeOn(ItemEntity entity, IRecipe<?> recipe) {
+		List<ItemStack> stacks = applyRecipeOn(entity.getItem(), recipe);
+		if (stacks.isEmpty()) {
+			entity.remove();
+			return;
+		}
+		entity.setItem(stacks.remove(0));
+		for (ItemStack additional : stacks) {
+			ItemEntity entityIn = new ItemEntity(entity.world, entity.posX, entity.posY, entity.posZ, additional);
+			entityIn.setMotion(entity.getMotion());
+			entity.world.addEntity(entityIn);
+		}
+	}
+
+	private static List<ItemStack> applyRecipeOn(ItemStack stackIn, IRecipe<?> recipe) {
 		List<ItemStack> stacks;
 
 		if (recipe instanceof SplashingRecipe) {
 			stacks = new ArrayList<>();
-			for (int i = 0; i < entity.getItem().getCount(); i++) {
+			for (int i = 0; i < stackIn.getCount(); i++) {
 				for (ItemStack stack : ((SplashingRecipe) recipe).rollResults()) {
 					for (ItemStack previouslyRolled : stacks) {
 						if (stack.isEmpty())
@@ -170,19 +232,10 @@ public class InWorldProcessing {
 			}
 		} else {
 			ItemStack out = recipe.getRecipeOutput().copy();
-			stacks = ItemHelper.multipliedOutput(entity.getItem(), out);
+			stacks = ItemHelper.multipliedOutput(stackIn, out);
 		}
 
-		if (stacks.isEmpty()) {
-			entity.remove();
-			return;
-		}
-		entity.setItem(stacks.remove(0));
-		for (ItemStack additional : stacks) {
-			ItemEntity entityIn = new ItemEntity(entity.world, entity.posX, entity.posY, entity.posZ, additional);
-			entityIn.setMotion(entity.getMotion());
-			entity.world.addEntity(entityIn);
-		}
+		return stacks;
 	}
 
 	public static boolean isFrozen() {
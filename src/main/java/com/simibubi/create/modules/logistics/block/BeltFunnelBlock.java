@@ -12,6 +12,7 @@ import com.simibubi.create.modules.contraptions.relays.belt.AllBeltAttachments.I
 import com.simibubi.create.modules.contraptions.relays.belt.BeltBlock;
 import com.simibubi.create.modules.contraptions.relays.belt.BeltBlock.Slope;
 import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity;
+import com.simibubi.create.modules.contraptions.relays.belt.TransportedItemStack;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -149,6 +150,19 @@ public class BeltFunnelBlock extends HorizontalBlock implements IBeltAttachment,
 
 		return true;
 	}
+
+	@Override
+	public boolean handlesItems() {
+		return true;
+	}
+
+	@Override
+	public boolean handleItem(BeltTileEntity te, TransportedItemStack stack, BeltAttachmentState state) {
+		TileEntity tileEntity = te.getWorld().getTileEntity(state.attachmentPos);
+		if (!(tileEntity instanceof BeltFunnelTileEntity))
+			return false;
+		return ((BeltFunnelTileEntity) tileEntity).tryToInsert(stack);
+	}
 	
 	@Override
 	public PushReaction getPushReaction(BlockState state) {
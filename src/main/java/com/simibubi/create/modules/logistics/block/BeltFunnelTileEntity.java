@@ -2,6 +2,7 @@ package com.simibubi.create.modules.logistics.block;
 
 import com.simibubi.create.AllTileEntities;
 import com.simibubi.create.foundation.block.SyncedTileEntity;
+import com.simibubi.create.modules.contraptions.relays.belt.TransportedItemStack;
 
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.item.ItemStack;
@@ -89,31 +90,60 @@ public class BeltFunnelTileEntity extends SyncedTileEntity implements ITickableT
 		if (waitingForInventorySpace)
 			return;
 
-		ItemStack stack = entity.getItem().copy();
-		IItemHandler inv = inventory.orElse(null);
-		for (int slot = 0; slot < inv.getSlots(); slot++) {
-			stack = inv.insertItem(slot, stack, world.isRemote);
-			if (stack.isEmpty()) {
-				if (!world.isRemote) {
-					entity.remove();
-					world.playSound(null, pos, SoundEvents.ENTITY_GENERIC_EAT, SoundCategory.BLOCKS, .125f, 1f);
-				}
-				else {
-					Vec3i directionVec = getBlockState().get(BlockStateProperties.HORIZONTAL_FACING).getDirectionVec();
-					float xSpeed = directionVec.getX() * 1/8f;
-					float zSpeed = directionVec.getZ() * 1/8f;
-					world.addParticle(new ItemParticleData(ParticleTypes.ITEM, entity.getItem()), entity.posX, entity.posY, entity.posZ, xSpeed, 1/6f, zSpeed);
-				}
-				return;
+		ItemStack stack = insert(entity.getItem().copy(), world.isRemote);
+		if (stack.isEmpty()) {
+			if (!world.isRemote) {
+				entity.remove();
+				world.playSound(null, pos, SoundEvents.ENTITY_GENERIC_EAT, SoundCategory.BLOCKS, .125f, 1f);
+			}
+			else {
+				Vec3i directionVec = getBlockState().get(BlockStateProperties.HORIZONTAL_FACING).getDirectionVec();
+				float xSpeed = directionVec.getX() * 1/8f;
+				float zSpeed = directionVec.getZ() * 1/8f;
+				world.addParticle(new ItemParticleData(ParticleTypes.ITEM, entity.getItem()), entity.posX, entity.posY, entity.posZ, xSpeed, 1/6f, zSpeed);
 			}
+			return;
 		}
 
-		waitingForInventorySpace = true;
-		sendData();
-
 		if (!stack.equals(entity.getItem(), false))
 			entity.setItem(stack);
 
 	}
 
+	/**
+	 * Moves a stack carried by the belt straight into the inventory, leaving
+	 * whatever did not fit on the belt. Returns false if there is no inventory to
+	 * insert into, so the belt does not hold the stack for nothing.
+	 */
+	public boolean tryToInsert(TransportedItemStack transported) {
+		// Not looked for its inventory yet
+		if (initialize)
+			return true;
+		if (!inventory.isPresent())
+			return false;
+		if (waitingForInventorySpace)
+			return true;
+
+		transported.stack = insert(transported.stack, false);
+		if (transported.stack.isEmpty())
+			world.playSound(null, pos, SoundEvents.ENTITY_GENERIC_EAT, SoundCategory.BLOCKS, .125f, 1f);
+		return true;
+	}
+
+	/**
+	 * Fills the lowest slots first, merging into matching stacks on the way.
+	 */
+	protected ItemStack insert(ItemStack stack, boolean simulate) {
+		IItemHandler inv = inventory.orElse(null);
+		for (int slot = 0; slot < inv.getSlots(); slot++) {
+			stack = inv.insertItem(slot, stack, simulate);
+			if (stack.isEmpty())
+				return stack;
+		}
+
+		waitingForInventorySpace = true;
+		sendData();
+		return stack;
+	}
+
 }
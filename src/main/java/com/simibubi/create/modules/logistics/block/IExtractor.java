@@ -2,10 +2,12 @@ package com.simibubi.create.modules.logistics.block;
 
 import com.simibubi.create.CreateConfig;
 import com.simibubi.create.foundation.utility.VecHelper;
+import com.simibubi.create.modules.contraptions.relays.belt.BeltTileEntity;
 
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.ITickableTileEntity;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -113,9 +115,24 @@ public interface IExtractor extends ITickableTileEntity, IInventoryManipulator {
 	}
 
 	default boolean hasSpaceForExtracting() {
+		BeltTileEntity belt = getBeltBelow();
+		if (belt != null && !belt.canInsertItem(.5f))
+			return false;
 		return getWorld().getEntitiesWithinAABBExcludingEntity(null, new AxisAlignedBB(getPos())).isEmpty();
 	}
 
+	/**
+	 * A belt right below which takes extracted items directly, instead of them
+	 * dropping onto it as entities.
+	 */
+	default BeltTileEntity getBeltBelow() {
+		TileEntity te = getWorld().getTileEntity(getPos().down());
+		if (!(te instanceof BeltTileEntity))
+			return null;
+		BeltTileEntity belt = (BeltTileEntity) te;
+		return belt.canTakeItems() ? belt : null;
+	}
+
 	default ItemStack extract(boolean simulate) {
 		IItemHandler inv = getInventory().orElse(null);
 		ItemStack extracting = ItemStack.EMPTY;
@@ -167,10 +184,14 @@ public interface IExtractor extends ITickableTileEntity, IInventoryManipulator {
 
 		if (!simulate && hasEnoughItems) {
 			World world = getWorld();
-			Vec3d pos = VecHelper.getCenterOf(getPos()).add(0, -0.5f, 0);
-			ItemEntity entityIn = new ItemEntity(world, pos.x, pos.y, pos.z, extracting);
-			entityIn.setMotion(Vec3d.ZERO);
-			world.addEntity(entityIn);
+			BeltTileEntity belt = world.isRemote ? null : getBeltBelow();
+			ItemStack remainder = belt != null ? belt.insertItem(extracting, .5f) : extracting;
+			if (!remainder.isEmpty()) {
+				Vec3d pos = VecHelper.getCenterOf(getPos()).add(0, -0.5f, 0);
+				ItemEntity entityIn = new ItemEntity(world, pos.x, pos.y, pos.z, remainder);
+				entityIn.setMotion(Vec3d.ZERO);
+				world.addEntity(entityIn);
+			}
 			world.playSound(null, getPos(), SoundEvents.ENTITY_ITEM_PICKUP, SoundCategory.BLOCKS, .125f, .1f);
 		}
 